@@ -78,6 +78,8 @@ dependencies {
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.9")
     // WebSocket
     implementation("org.springframework.boot:spring-boot-starter-websocket")
+    // STOMP 외부 브로커 릴레이 (stomp-relay 프로파일)
+    implementation("io.projectreactor.netty:reactor-netty")
     // QueryDSL
     implementation("com.querydsl:querydsl-jpa:5.0.0:jakarta")
     annotationProcessor("com.querydsl:querydsl-apt:5.0.0:jakarta")
@@ -0,0 +1,30 @@
+package com.back.domain.category.service;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.category.repository.CategoryRepository;
+import com.back.global.hierarchy.HierarchyHolder;
+import com.back.global.hierarchy.HierarchySnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+public class CategoryHierarchy extends HierarchyHolder {
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public String name() {
+        return "category";
+    }
+
+    @Override
+    protected HierarchySnapshot load() {
+        // 하위 카테고리 컬렉션을 끝까지 순회해야 하므로 트랜잭션 안에서 생성
+        return transactionTemplate.execute(status -> HierarchySnapshot.of(
+                categoryRepository.findAllWithChildren(), Category::getId, Category::getChildren
+        ));
+    }
+}
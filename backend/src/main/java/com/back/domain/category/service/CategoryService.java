@@ -6,6 +6,7 @@ import com.back.domain.category.dto.CategoryUpdateReqBody;
 import com.back.domain.category.entity.Category;
 import com.back.domain.category.repository.CategoryRepository;
 import com.back.global.exception.ServiceException;
+import com.back.global.hierarchy.HierarchyInvalidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
@@ -20,6 +21,8 @@ import java.util.List;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryHierarchy categoryHierarchy;
+    private final HierarchyInvalidator hierarchyInvalidator;
 
     public CategoryResBody createCategory(CategoryCreateReqBody categoryCreateReqBody) {
         Long parentId = categoryCreateReqBody.parentId();
@@ -45,6 +48,7 @@ public class CategoryService {
         Category category = Category.create(categoryName, parentCategory);
 
         Category saved = categoryRepository.save(category);
+        hierarchyInvalidator.invalidateAfterCommit(categoryHierarchy);
         return CategoryResBody.of(saved);
     }
 
@@ -52,6 +56,7 @@ public class CategoryService {
         Category category = Category.create(categoryName, null);
 
         Category saved = categoryRepository.save(category);
+        hierarchyInvalidator.invalidateAfterCommit(categoryHierarchy);
         return CategoryResBody.of(saved);
     }
 
@@ -68,6 +73,7 @@ public class CategoryService {
         try {
             categoryRepository.deleteById(categoryId);
             categoryRepository.flush();
+            hierarchyInvalidator.invalidateAfterCommit(categoryHierarchy);
         } catch (DataIntegrityViolationException e) { // DB FK 제약 조건 위반 시 발생에러, 데이터 베이스에 FK 설정 필요 (Post 테이블)
             throw new ServiceException(HttpStatus.BAD_REQUEST, "%d번 카테고리를 참조 중인 게시글이 있습니다.".formatted(categoryId));
         }
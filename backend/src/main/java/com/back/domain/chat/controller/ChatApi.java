@@ -3,6 +3,7 @@ package com.back.domain.chat.controller;
 import com.back.domain.chat.dto.*;
 import com.back.global.rsData.RsData;
 import com.back.global.security.SecurityUser;
+import com.back.standard.util.page.CursorPayload;
 import com.back.standard.util.page.PagePayload;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,6 +29,19 @@ public interface ChatApi {
             @AuthenticationPrincipal SecurityUser securityUser
     );
 
+    @Operation(summary = "내 채팅방 목록 커서 조회 API", description = "내가 속한 채팅방 목록을 커서 기반으로 조회합니다.")
+    ResponseEntity<RsData<CursorPayload<ChatRoomListDto>>> getMyChatRoomsByCursor(
+            String cursor,
+            int size,
+            String keyword,
+            @AuthenticationPrincipal SecurityUser securityUser
+    );
+
+    @Operation(summary = "안 읽은 메세지 수 조회 API", description = "내가 속한 모든 채팅방의 안 읽은 메세지 수 합계를 조회합니다.")
+    ResponseEntity<RsData<ChatUnreadResBody>> getUnreadCount(
+            @AuthenticationPrincipal SecurityUser securityUser
+    );
+
     @Operation(summary = "채팅방 상세 조회 API", description = "특정 채팅방의 상세 정보를 조회합니다.")
     public ResponseEntity<RsData<ChatRoomDto>> getChatRoom(
             @PathVariable Long id,
@@ -41,10 +55,19 @@ public interface ChatApi {
             @AuthenticationPrincipal SecurityUser securityUser
     );
 
-    @Operation(summary = "채팅방 내 특정 메세지까지 읽음 처리 API", description = "채팅방 내 특정 메세지까지 모두 읽음 처리합니다.")
+    @Operation(summary = "채팅방 내 메세지 커서 조회 API", description = "beforeId 이전 메세지를 최신순으로 조회합니다. 다음 요청의 beforeId 는 응답의 nextCursor 입니다.")
+    ResponseEntity<RsData<CursorPayload<ChatMessageDto>>> getChatRoomMessagesBefore(
+            @PathVariable Long id,
+            Long beforeId,
+            int size,
+            @AuthenticationPrincipal SecurityUser securityUser
+    );
+
+    @Operation(summary = "채팅방 내 특정 메세지까지 읽음 처리 API", description = "채팅방 내 특정 메세지까지 모두 읽음 처리합니다. id 가 없는 메세지(write-behind)는 lastMessageId 대신 streamId 를 lastStreamId 로 보냅니다. 둘 다 생략하면 저장된 마지막 메세지까지 처리합니다.")
     public ResponseEntity<RsData<Void>> markAsRead(
             @PathVariable Long id,
-            @RequestParam Long lastMessageId,
+            @RequestParam(required = false) Long lastMessageId,
+            @RequestParam(required = false) String lastStreamId,
             @AuthenticationPrincipal SecurityUser securityUser
     );
 }
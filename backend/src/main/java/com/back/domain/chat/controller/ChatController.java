@@ -4,6 +4,7 @@ import com.back.domain.chat.dto.*;
 import com.back.domain.chat.service.ChatService;
 import com.back.global.rsData.RsData;
 import com.back.global.security.SecurityUser;
+import com.back.standard.util.page.CursorPayload;
 import com.back.standard.util.page.PagePayload;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -38,6 +39,25 @@ public class ChatController implements ChatApi{
         return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "내 채팅방 목록",  myChatRooms));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<RsData<CursorPayload<ChatRoomListDto>>> getMyChatRoomsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String keyword,
+            @AuthenticationPrincipal SecurityUser securityUser
+    ) {
+        CursorPayload<ChatRoomListDto> myChatRooms = chatService.getMyChatRoomsByCursor(securityUser.getId(), cursor, size, keyword);
+        return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "내 채팅방 목록", myChatRooms));
+    }
+
+    @GetMapping("/unread")
+    public ResponseEntity<RsData<ChatUnreadResBody>> getUnreadCount(
+            @AuthenticationPrincipal SecurityUser securityUser
+    ) {
+        ChatUnreadResBody body = chatService.getUnreadCount(securityUser.getId());
+        return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "안 읽은 메세지 수", body));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<RsData<ChatRoomDto>> getChatRoom(
             @PathVariable("id") Long chatRoomId,
@@ -57,13 +77,25 @@ public class ChatController implements ChatApi{
         return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "해당 채팅방 내 메세지 목록", chatMessages));
     }
 
+    @GetMapping("/{id}/messages/cursor")
+    public ResponseEntity<RsData<CursorPayload<ChatMessageDto>>> getChatRoomMessagesBefore(
+            @PathVariable("id") Long chatRoomId,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal SecurityUser securityUser
+    ) {
+        CursorPayload<ChatMessageDto> chatMessages = chatService.getChatMessagesBefore(chatRoomId, securityUser.getId(), beforeId, size);
+        return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "해당 채팅방 내 메세지 목록", chatMessages));
+    }
+
     @PatchMapping("/{id}/read")
     public ResponseEntity<RsData<Void>> markAsRead(
             @PathVariable("id") Long chatRoomId,
-            @RequestParam Long lastMessageId,
+            @RequestParam(required = false) Long lastMessageId,
+            @RequestParam(required = false) String lastStreamId,
             @AuthenticationPrincipal SecurityUser securityUser
     ) {
-        chatService.markAsRead(chatRoomId, securityUser.getId(), lastMessageId);
+        chatService.markAsRead(chatRoomId, securityUser.getId(), lastMessageId, lastStreamId);
         return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "읽음 처리 완료", null));
     }
 }
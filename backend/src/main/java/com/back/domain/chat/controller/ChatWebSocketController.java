@@ -25,6 +25,6 @@ public class ChatWebSocketController {
 
         SecurityUser user = (SecurityUser) authentication.getPrincipal();
 
-        chatService.saveMessage(chatRoomId, body, user.getId());
+        chatService.sendMessage(chatRoomId, body, user.getId());
     }
 }
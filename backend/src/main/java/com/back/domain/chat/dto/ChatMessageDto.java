@@ -6,6 +6,7 @@ public record ChatMessageDto(
         Long id,
         Long authorId,
         String content,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        String streamId // write-behind 메시지의 Redis Stream 레코드 id (동기 저장 메시지는 null)
 ) {
 }
@@ -1,7 +0,0 @@
-package com.back.domain.chat.dto;
-
-public record ChatMessagePubSubPayload(
-        Long chatRoomId,
-        ChatMessageDto message
-) {
-}
@@ -0,0 +1,6 @@
+package com.back.domain.chat.dto;
+
+public record ChatUnreadResBody(
+        Integer totalUnreadCount
+) {
+}
@@ -7,7 +7,8 @@ public record NewMessageNotiDto(
         Long messageId,
         Long authorId,
         String content,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        String streamId
 ) {
     public static NewMessageNotiDto from(Long chatRoomId, ChatMessageDto chatMessageDto) {
         return new NewMessageNotiDto(
@@ -15,7 +16,8 @@ public record NewMessageNotiDto(
                 chatMessageDto.id(),
                 chatMessageDto.authorId(),
                 chatMessageDto.content(),
-                chatMessageDto.createdAt()
+                chatMessageDto.createdAt(),
+                chatMessageDto.streamId()
         );
     }
 }
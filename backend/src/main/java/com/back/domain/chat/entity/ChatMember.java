@@ -20,6 +20,10 @@ public class ChatMember extends BaseEntity {
     @Column(name = "last_read_message_id", nullable = false)
     private Long lastReadMessageId;
 
+    // 아직 저장되지 않은 write-behind 메시지까지 읽었을 때 그 스트림 id (저장되면 lastReadMessageId 로 옮긴다)
+    @Column(name = "last_read_stream_id", length = 64)
+    private String lastReadStreamId;
+
     public static ChatMember create(Long chatRoomId, Long memberId) {
         ChatMember chatMember = new ChatMember();
         chatMember.chatRoomId = chatRoomId;
@@ -34,4 +38,8 @@ public class ChatMember extends BaseEntity {
             this.lastReadMessageId = messageId;
         }
     }
+
+    public void updateLastReadStreamId(String streamId) {
+        this.lastReadStreamId = streamId;
+    }
 }
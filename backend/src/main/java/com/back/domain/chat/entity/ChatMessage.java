@@ -11,7 +11,9 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "chat_message")
+@Table(name = "chat_message", indexes = @Index(name = "idx_chat_message_room_id",
+        columnList = "chat_room_id, id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_message_stream_id", columnNames = "stream_id"))
 public class ChatMessage extends BaseEntity {
 
     @Column(name = "content", nullable = false, columnDefinition = "TEXT")
@@ -23,7 +25,11 @@ public class ChatMessage extends BaseEntity {
     @Column(name = "chat_member_id", nullable = false)
     private Long chatMemberId;
 
+    // write-behind 로 저장된 메시지의 Redis Stream 레코드 id (동기 저장 시 null)
+    @Column(name = "stream_id", length = 64)
+    private String streamId;
+
     public static ChatMessage create(String content, Long chatRoomId, Long chatMemberId) {
-        return new ChatMessage(content, chatRoomId, chatMemberId);
+        return new ChatMessage(content, chatRoomId, chatMemberId, null);
     }
 }
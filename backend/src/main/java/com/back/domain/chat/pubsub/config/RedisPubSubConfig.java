@@ -1,6 +1,5 @@
 package com.back.domain.chat.pubsub.config;
 
-import com.back.domain.chat.pubsub.subscriber.ChatMessageSubscriber;
 import com.back.domain.chat.pubsub.subscriber.ChatNotificationSubscriber;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -13,14 +12,8 @@ import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 @RequiredArgsConstructor
 public class RedisPubSubConfig {
 
-    private final ChatMessageSubscriber chatMessageSubscriber;
     private final ChatNotificationSubscriber chatNotificationSubscriber;
 
-    @Bean
-    public ChannelTopic chatMessageTopic() {
-        return new ChannelTopic("chat:messages");
-    }
-
     @Bean
     public ChannelTopic chatNotificationTopic() {
         return new ChannelTopic("chat:notifications");
@@ -33,8 +26,8 @@ public class RedisPubSubConfig {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(redisConnectionFactory);
 
-        container.addMessageListener(chatMessageSubscriber, chatMessageTopic());
         container.addMessageListener(chatNotificationSubscriber, chatNotificationTopic());
+        // 채팅방 채널(chat:room:{id})은 ChatMessageSubscriber 가 STOMP 구독에 맞춰 추가·제거한다
 
         return container;
     }
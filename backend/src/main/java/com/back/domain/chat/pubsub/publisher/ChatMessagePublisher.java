@@ -1,34 +1,56 @@
 package com.back.domain.chat.pubsub.publisher;
 
 import com.back.domain.chat.dto.ChatMessageDto;
-import com.back.domain.chat.dto.ChatMessagePubSubPayload;
+import com.back.domain.chat.pubsub.subscriber.ChatMessageSubscriber;
 import com.back.domain.chat.service.ChatWebsocketService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 메시지를 한 번만 JSON 으로 직렬화해 채팅방 채널에 보낸다. 구독 노드는 본문을 그대로 STOMP 로 전달한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatMessagePublisher {
 
     private final ChatWebsocketService chatWebsocketService;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ChannelTopic chatMessageTopic;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper redisObjectMapper;
+
+    // 외부 브로커 릴레이를 쓰면 브로커가 노드 간 전달을 맡으므로 Redis 를 거치지 않는다
+    @Value("${custom.websocket.relay.enabled:false}")
+    private boolean relayEnabled;
 
     public void publish(Long chatRoomId, ChatMessageDto dto) {
+        String json;
         try {
-            ChatMessagePubSubPayload payload = new ChatMessagePubSubPayload(chatRoomId, dto);
+            json = redisObjectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize chat message: chatRoomId={}, messageId={}", chatRoomId, dto.id(), e);
+            return;
+        }
 
-            redisTemplate.convertAndSend(chatMessageTopic.getTopic(), payload);
+        if (relayEnabled) {
+            chatWebsocketService.broadcastMessage(chatRoomId, json.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        try {
+            stringRedisTemplate.convertAndSend(ChatMessageSubscriber.topicOf(chatRoomId).getTopic(), json);
             log.debug("Published chat message to room {}: {}", chatRoomId, dto.id());
 
         } catch (Exception e) {
             log.error("Failed to publish chat message: chatRoomId={}, messageId={}",
                     chatRoomId, dto.id(), e);
-            chatWebsocketService.broadcastMessage(chatRoomId, dto);
+            chatWebsocketService.broadcastMessage(chatRoomId, json.getBytes(StandardCharsets.UTF_8));
         }
     }
 }
@@ -5,6 +5,7 @@ import com.back.domain.chat.dto.ChatNotificationPubSubPayload;
 import com.back.domain.chat.service.ChatWebsocketService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
@@ -18,7 +19,16 @@ public class ChatNotificationPublisher {
     private final RedisTemplate<String, Object> redisTemplate;
     private final ChannelTopic chatNotificationTopic;
 
+    // 릴레이 모드에서는 브로커로 바로 보낸다
+    @Value("${custom.websocket.relay.enabled:false}")
+    private boolean relayEnabled;
+
     public void publish(Long memberId, ChatNotiDto dto) {
+        if (relayEnabled) {
+            chatWebsocketService.notify(memberId, dto);
+            return;
+        }
+
         try {
             ChatNotificationPubSubPayload payload = new ChatNotificationPubSubPayload(memberId, dto);
 
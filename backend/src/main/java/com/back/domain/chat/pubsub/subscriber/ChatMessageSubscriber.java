@@ -1,35 +1,167 @@
 package com.back.domain.chat.pubsub.subscriber;
 
-import com.back.domain.chat.dto.ChatMessagePubSubPayload;
 import com.back.domain.chat.service.ChatWebsocketService;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방별 채널(chat:room:{chatRoomId})로 메시지를 받아 이 서버의 STOMP 구독자에게 전달한다.
+ * 이 서버에 /sub/chat/{chatRoomId} 구독자가 있는 채팅방의 채널만 구독하고, 본문(JSON)은 역직렬화하지 않는다.
+ * 외부 브로커 릴레이를 쓰면 브로커가 노드 간 전달을 맡으므로 채널을 구독하지 않는다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatMessageSubscriber implements MessageListener {
 
+    public static final String CHANNEL_PREFIX = "chat:room:";
+    private static final String DESTINATION_PREFIX = "/sub/chat/";
+    private static final int CHANNEL_LOCK_STRIPES = 64;
+
     private final ChatWebsocketService chatWebsocketService;
-    private final ObjectMapper redisObjectMapper;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${custom.websocket.relay.enabled:false}")
+    private boolean relayEnabled;
+
+    // 채팅방별 로컬 구독 수 (0 이 되면 채널 구독 해제)
+    private final Map<Long, Integer> localSubscriptions = new ConcurrentHashMap<>();
+    // 세션별 구독 id → 채팅방 id (UNSUBSCRIBE 에는 destination 이 없음)
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // 실제로 Redis 채널을 구독 중인 채팅방 (channelLocks 로 채팅방별 갱신을 직렬화)
+    private final Set<Long> subscribedRooms = ConcurrentHashMap.newKeySet();
+    private final Object[] channelLocks = createLocks();
+
+    public static ChannelTopic topicOf(Long chatRoomId) {
+        return new ChannelTopic(CHANNEL_PREFIX + chatRoomId);
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        if (relayEnabled) {
+            return;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long chatRoomId = parseChatRoomId(accessor.getDestination());
+        if (chatRoomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long previous = sessionSubscriptions
+                .computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), chatRoomId);
+
+        acquire(chatRoomId);
+        if (previous != null) {
+            release(previous);
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Map<String, Long> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+
+        Long chatRoomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (chatRoomId != null) {
+            release(chatRoomId);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void acquire(Long chatRoomId) {
+        if (localSubscriptions.merge(chatRoomId, 1, Integer::sum) == 1) {
+            syncChannel(chatRoomId);
+        }
+    }
+
+    private void release(Long chatRoomId) {
+        if (localSubscriptions.computeIfPresent(chatRoomId, (id, count) -> count > 1 ? count - 1 : null) == null) {
+            syncChannel(chatRoomId);
+        }
+    }
+
+    /**
+     * 로컬 구독 유무에 맞춰 채널을 구독하거나 해제한다. Redis 왕복이 있으므로 맵 갱신(compute) 밖에서 부르고,
+     * 같은 채팅방의 구독·해제가 엇갈려도 마지막 호출이 현재 상태를 보고 맞추도록 채팅방별 잠금 안에서 비교한다.
+     */
+    private void syncChannel(Long chatRoomId) {
+        synchronized (channelLocks[Math.floorMod(chatRoomId.hashCode(), CHANNEL_LOCK_STRIPES)]) {
+            boolean wanted = localSubscriptions.containsKey(chatRoomId);
+            if (wanted && !subscribedRooms.contains(chatRoomId)) {
+                redisMessageListenerContainer.addMessageListener(this, topicOf(chatRoomId));
+                subscribedRooms.add(chatRoomId);
+            } else if (!wanted && subscribedRooms.remove(chatRoomId)) {
+                redisMessageListenerContainer.removeMessageListener(this, topicOf(chatRoomId));
+            }
+        }
+    }
+
+    private static Object[] createLocks() {
+        Object[] locks = new Object[CHANNEL_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private static Long parseChatRoomId(String destination) {
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            ChatMessagePubSubPayload payload =
-                    redisObjectMapper.readValue(message.getBody(), ChatMessagePubSubPayload.class);
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            Long chatRoomId = Long.valueOf(channel.substring(CHANNEL_PREFIX.length()));
+
+            // 구독 해제 직후 도착한 메시지는 버린다
+            if (!localSubscriptions.containsKey(chatRoomId)) {
+                return;
+            }
 
-            log.debug("Received chat message: chatRoomId={}, messageId={}",
-                    payload.chatRoomId(), payload.message().id());
+            log.debug("Received chat message: chatRoomId={}", chatRoomId);
 
-            chatWebsocketService.broadcastMessage(
-                    payload.chatRoomId(),
-                    payload.message()
-            );
+            // 발행 측에서 직렬화한 JSON 을 그대로 전달
+            chatWebsocketService.broadcastMessage(chatRoomId, message.getBody());
 
         } catch (Exception e) {
             log.error("Failed to process chat message from Redis", e);
@@ -0,0 +1,79 @@
+package com.back.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * write-behind 모드에서 Redis Stream 의 채팅 메시지를 JDBC 배치로 저장 (호출한 트랜잭션에 참여)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Row(
+            String streamId,
+            Long chatRoomId,
+            Long chatMemberId,
+            String content,
+            LocalDateTime createdAt
+    ) {
+    }
+
+    /**
+     * 메시지를 저장한다 (id 는 AUTO_INCREMENT). 재처리로 같은 스트림 레코드가 다시 들어오면 stream_id 유니크 키로 건너뛰고,
+     * 그 밖의 오류는 그대로 던진다.
+     */
+    public void insertAll(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO chat_message (stream_id, created_at, modified_at, chat_room_id, chat_member_id, content) VALUES (?, ?, ?, ?, ?, ?) "
+                        + "ON DUPLICATE KEY UPDATE stream_id = stream_id",
+                rows.stream().map(row -> {
+                    Timestamp createdAt = Timestamp.valueOf(row.createdAt());
+                    return new Object[]{row.streamId(), createdAt, createdAt, row.chatRoomId(), row.chatMemberId(), row.content()};
+                }).toList());
+    }
+
+    /**
+     * 채팅방별 마지막 메시지를 갱신한다. 이미 더 최근 메시지가 반영된 방은 건너뛴다.
+     */
+    public void updateLastMessages(Collection<Row> latestByRoom) {
+        if (latestByRoom.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE chat_room SET last_message = ?, last_message_time = ? WHERE id = ? AND (last_message_time IS NULL OR last_message_time <= ?)",
+                latestByRoom.stream().map(row -> {
+                    Timestamp createdAt = Timestamp.valueOf(row.createdAt());
+                    return new Object[]{row.content(), createdAt, row.chatRoomId(), createdAt};
+                }).toList());
+    }
+
+    /**
+     * 저장 전 메시지까지 읽은 회원의 읽음 위치(last_read_stream_id)를 방금 저장된 메시지 id 로 옮긴다.
+     * 아직 저장되지 않은 메시지를 가리키면 그대로 둔다.
+     */
+    public void resolvePendingReads(Collection<Long> chatRoomIds) {
+        if (chatRoomIds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE chat_member cm JOIN chat_message m ON m.stream_id = cm.last_read_stream_id AND m.chat_room_id = cm.chat_room_id "
+                        + "SET cm.last_read_message_id = GREATEST(cm.last_read_message_id, m.id), cm.last_read_stream_id = NULL "
+                        + "WHERE cm.chat_room_id = ?",
+                chatRoomIds.stream().map(id -> new Object[]{id}).toList());
+    }
+}
@@ -3,13 +3,20 @@ package com.back.domain.chat.repository;
 import com.back.domain.chat.dto.ChatMessageDto;
 import com.back.domain.chat.entity.ChatMessage;
 import com.back.global.queryDsl.CustomQuerydslRepositorySupport;
+import com.back.domain.chat.entity.QChatMember;
+import com.back.standard.util.page.CursorSlice;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import static com.back.domain.chat.entity.QChatMember.chatMember;
@@ -29,7 +36,8 @@ public class ChatMessageQueryRepository extends CustomQuerydslRepositorySupport
                         chatMessage.id,
                         member.id,
                         chatMessage.content,
-                        chatMessage.createdAt
+                        chatMessage.createdAt,
+                        chatMessage.streamId
                 ))
                 .from(chatMessage)
                 .join(chatMember).on(chatMessage.chatMemberId.eq(chatMember.id))
@@ -44,4 +52,79 @@ public class ChatMessageQueryRepository extends CustomQuerydslRepositorySupport
 
         return applyPagination(pageable, contentQuery, countQuery);
     }
+
+    /**
+     * beforeId 보다 이전 메시지를 id 역순으로 size 건 조회 (COUNT 없음, 첫 페이지는 beforeId = null)
+     * (chat_room_id, id) 인덱스만 타므로 얼마나 거슬러 올라가도 비용이 같다.
+     */
+    public CursorSlice<ChatMessageDto> getChatMessagesBefore(Long chatRoomId, Long beforeId, int size) {
+        int limit = cursorPageSize(size);
+
+        List<ChatMessageDto> rows = select(Projections.constructor(ChatMessageDto.class,
+                        chatMessage.id,
+                        chatMember.memberId,
+                        chatMessage.content,
+                        chatMessage.createdAt,
+                        chatMessage.streamId
+                ))
+                .from(chatMessage)
+                .join(chatMember).on(chatMessage.chatMemberId.eq(chatMember.id))
+                .where(
+                        chatMessage.chatRoomId.eq(chatRoomId),
+                        beforeId != null ? chatMessage.id.lt(beforeId) : null
+                )
+                .orderBy(chatMessage.id.desc())
+                .limit(limit + 1)
+                .fetch();
+
+        boolean hasNext = rows.size() > limit;
+        List<ChatMessageDto> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? String.valueOf(content.get(content.size() - 1).id()) : null;
+
+        return new CursorSlice<>(content, limit, hasNext, nextCursor);
+    }
+
+    /**
+     * 채팅방에 저장된 마지막 메시지 id (없으면 null)
+     */
+    public Long findLastMessageId(Long chatRoomId) {
+        return select(chatMessage.id.max())
+                .from(chatMessage)
+                .where(chatMessage.chatRoomId.eq(chatRoomId))
+                .fetchOne();
+    }
+
+    /**
+     * 채팅방에 저장된 write-behind 메시지의 id (아직 저장 전이면 null)
+     */
+    public Long findIdByStreamId(Long chatRoomId, String streamId) {
+        return select(chatMessage.id)
+                .from(chatMessage)
+                .where(chatMessage.chatRoomId.eq(chatRoomId), chatMessage.streamId.eq(streamId))
+                .fetchOne();
+    }
+
+    /**
+     * 회원이 참여한 채팅방별로 lastReadMessageId 이후 상대가 보낸 메시지 수 (안 읽은 수 재계산용)
+     */
+    public Map<Long, Long> countUnreadByChatRoom(Long memberId) {
+        QChatMember me = new QChatMember("me");
+        NumberExpression<Long> count = chatMessage.count();
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (Tuple tuple : getQueryFactory()
+                .select(chatMessage.chatRoomId, count)
+                .from(me)
+                .join(chatMessage).on(
+                        chatMessage.chatRoomId.eq(me.chatRoomId),
+                        chatMessage.id.gt(me.lastReadMessageId),
+                        chatMessage.chatMemberId.ne(me.id)
+                )
+                .where(me.memberId.eq(memberId))
+                .groupBy(chatMessage.chatRoomId)
+                .fetch()) {
+            counts.put(tuple.get(chatMessage.chatRoomId), tuple.get(count));
+        }
+        return counts;
+    }
 }
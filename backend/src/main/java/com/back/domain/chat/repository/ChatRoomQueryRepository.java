@@ -9,6 +9,8 @@ import com.back.domain.chat.entity.ChatRoom;
 import com.back.domain.chat.entity.QChatMember;
 import com.back.domain.member.entity.Member;
 import com.back.global.queryDsl.CustomQuerydslRepositorySupport;
+import com.back.global.queryDsl.Keyset;
+import com.back.standard.util.page.CursorSlice;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
@@ -19,6 +21,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -54,7 +57,38 @@ public class ChatRoomQueryRepository extends CustomQuerydslRepositorySupport {
                 .and(createKeywordCondition(keyword));
 
         // Content Query
-        Function<JPAQueryFactory, JPAQuery<ChatRoomListDto>> contentQuery = query -> query
+        Function<JPAQueryFactory, JPAQuery<ChatRoomListDto>> contentQuery = query -> myChatRoomsQuery(query, memberId, keyword)
+                .orderBy(chatRoom.lastMessageTime.desc().nullsLast());
+
+        // Count Query
+        Function<JPAQueryFactory, JPAQuery<Long>> countQuery = query -> query
+                .select(chatRoom.id.countDistinct())
+                .from(chatRoom)
+                .join(me).on(me.chatRoomId.eq(chatRoom.id))
+                .where(condition);
+
+        return applyPagination(pageable, contentQuery, countQuery);
+    }
+
+    public CursorSlice<ChatRoomListDto> getMyChatRoomsByCursor(Long memberId, String keyword, String cursor, int size) {
+        return applyCursorPagination(cursor, size,
+                Keyset.descNullsLast(chatRoom.lastMessageTime, LocalDateTime.class, chatRoom.id,
+                        ChatRoomListDto::lastMessageTime, ChatRoomListDto::id),
+                query -> myChatRoomsQuery(query, memberId, keyword));
+    }
+
+    public List<ChatRoomListDto> findMyChatRooms(Long memberId) {
+        return myChatRoomsQuery(getQueryFactory(), memberId, null).fetch();
+    }
+
+    private JPAQuery<ChatRoomListDto> myChatRoomsQuery(JPAQueryFactory query, Long memberId, String keyword) {
+        QChatMember me = new QChatMember("me");
+        QChatMember other = new QChatMember("other");
+
+        BooleanExpression condition = me.memberId.eq(memberId)
+                .and(createKeywordCondition(keyword));
+
+        return query
                 .select(Projections.constructor(ChatRoomListDto.class,
                         chatRoom.id,
                         chatRoom.createdAt,
@@ -74,17 +108,7 @@ public class ChatRoomQueryRepository extends CustomQuerydslRepositorySupport {
                 .join(me).on(me.chatRoomId.eq(chatRoom.id))
                 .join(other).on(other.chatRoomId.eq(chatRoom.id))
                 .join(member).on(member.id.eq(other.memberId))
-                .where(condition.and(other.memberId.ne(memberId)))
-                .orderBy(chatRoom.lastMessageTime.desc().nullsLast());
-
-        // Count Query
-        Function<JPAQueryFactory, JPAQuery<Long>> countQuery = query -> query
-                .select(chatRoom.id.countDistinct())
-                .from(chatRoom)
-                .join(me).on(me.chatRoomId.eq(chatRoom.id))
-                .where(condition);
-
-        return applyPagination(pageable, contentQuery, countQuery);
+                .where(condition.and(other.memberId.ne(memberId)));
     }
 
     private BooleanExpression createKeywordCondition(String keyword) {
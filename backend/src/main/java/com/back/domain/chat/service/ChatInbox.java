@@ -0,0 +1,460 @@
+package com.back.domain.chat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.back.domain.chat.dto.ChatPostDto;
+import com.back.domain.chat.dto.ChatRoomListDto;
+import com.back.domain.chat.dto.OtherMemberDto;
+import com.back.domain.chat.repository.ChatRoomQueryRepository;
+import com.back.global.exception.ServiceException;
+import com.back.standard.util.page.CursorSlice;
+import com.back.standard.util.page.CursorUt;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 채팅방 목록 (Redis 정렬 집합 chat:inbox:v2:{memberId}: 채팅방 id → 마지막 메시지 시각 epoch μs).
+ * 메시지가 없는 방은 채팅방 id 를 점수로 써서 메시지가 있는 방들 뒤에 최신 방 순으로 놓인다.
+ * 순서와 커서는 DB 조회(마지막 메시지 시각 내림차순 NULLS LAST, 채팅방 id 내림차순)와 같아서
+ * 캐시 장애로 DB 로 넘어가도 같은 커서로 이어서 조회할 수 있다.
+ * 목록 표시용 스냅샷은 채팅방 해시 chat:inbox:room:v2:{id} 와 회원별 상대방 해시 chat:inbox:peer:{memberId} 에 둔다.
+ * 키가 없으면(만료·유실) 조회 시 DB 에서 다시 채우고, 그 사이의 갱신은 버린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatInbox {
+
+	private static final String INBOX_KEY = "chat:inbox:v2:%d";
+	private static final String PEER_KEY = "chat:inbox:peer:%d";
+	private static final String ROOM_KEY = "chat:inbox:room:v2:%d";
+	// 채팅방이 없는 회원도 채워진 상태로 구분하기 위한 표식 (점수 0, 조회 범위 밖)
+	private static final String LOADED = "loaded";
+	private static final double MIN_SCORE = 1;
+	private static final Duration TTL = Duration.ofHours(1);
+	// 목록 키보다 먼저 만료되지 않도록 조금 더 길게 둔다
+	private static final Duration PEER_TTL = TTL.plusMinutes(5);
+	private static final Duration ROOM_TTL = Duration.ofDays(1);
+	private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+	// 점수 내림차순, 같으면 채팅방 id 내림차순 (Redis 의 같은 점수 정렬은 멤버 문자열 순이라 다시 정렬한다)
+	private static final Comparator<TypedTuple<String>> ORDER =
+		Comparator.<TypedTuple<String>>comparingDouble(TypedTuple::getScore).reversed()
+			.thenComparing(Comparator.<TypedTuple<String>>comparingLong(t -> Long.parseLong(t.getValue())).reversed());
+
+	// 커서가 가리키는 목록 위치
+	private record Position(double score, long chatRoomId) {
+
+		boolean isBefore(TypedTuple<String> tuple) {
+			return tuple.getScore() < score
+				|| (tuple.getScore() == score && Long.parseLong(tuple.getValue()) < chatRoomId);
+		}
+	}
+
+	private static final DefaultRedisScript<Long> ADD_ROOM_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			return 0
+		end
+		redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+		redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+		return 1
+		""", Long.class);
+
+	// 늦게 도착한 이전 메시지가 순서를 되돌리지 않도록 점수가 커질 때만 갱신
+	private static final DefaultRedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>("""
+		local score = tonumber(ARGV[2])
+		if redis.call('EXISTS', KEYS[1]) == 1
+			and tonumber(redis.call('HGET', KEYS[1], 'score') or '0') < score then
+			redis.call('HSET', KEYS[1], 'lastMessage', ARGV[3], 'lastMessageTime', ARGV[4], 'score', ARGV[2])
+		end
+		for i = 2, #KEYS do
+			local current = redis.call('ZSCORE', KEYS[i], ARGV[1])
+			if current and tonumber(current) < score then
+				redis.call('ZADD', KEYS[i], score, ARGV[1])
+			end
+		end
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper redisObjectMapper;
+	private final ChatRoomQueryRepository chatRoomQueryRepository;
+
+	@Value("${custom.chat.inbox.enabled:true}")
+	private boolean enabled;
+
+	public Page<ChatRoomListDto> getMyChatRooms(Long memberId, Pageable pageable, String keyword) {
+		if (!enabled) {
+			return chatRoomQueryRepository.getMyChatRooms(memberId, pageable, keyword);
+		}
+
+		try {
+			String key = ensureLoaded(memberId);
+
+			if (hasKeyword(keyword)) {
+				List<ChatRoomListDto> matched = search(memberId, key, keyword, null, new HashMap<>());
+				int from = (int)Math.min(pageable.getOffset(), matched.size());
+				int to = Math.min(from + pageable.getPageSize(), matched.size());
+				return new PageImpl<>(matched.subList(from, to), pageable, matched.size());
+			}
+
+			Long total = stringRedisTemplate.opsForZSet().count(key, MIN_SCORE, Double.POSITIVE_INFINITY);
+			Set<TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+				.reverseRangeByScoreWithScores(key, MIN_SCORE, Double.POSITIVE_INFINITY,
+					pageable.getOffset(), pageable.getPageSize());
+
+			List<ChatRoomListDto> content = fetch(memberId, roomIds(sorted(tuples)));
+			return new PageImpl<>(content, pageable, total == null ? content.size() : total);
+		} catch (DataAccessException e) {
+			log.warn("채팅방 목록 캐시 조회 실패, DB 로 조회: memberId={}", memberId, e);
+			return chatRoomQueryRepository.getMyChatRooms(memberId, pageable, keyword);
+		}
+	}
+
+	public CursorSlice<ChatRoomListDto> getMyChatRoomsByCursor(Long memberId, String keyword, String cursor, int size) {
+		if (!enabled) {
+			return chatRoomQueryRepository.getMyChatRoomsByCursor(memberId, keyword, cursor, size);
+		}
+
+		int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+		Position position = decodeCursor(cursor);
+
+		try {
+			String key = ensureLoaded(memberId);
+			Map<Long, Double> scores = new HashMap<>();
+
+			List<ChatRoomListDto> rooms;
+			if (hasKeyword(keyword)) {
+				rooms = search(memberId, key, keyword, position, scores);
+			} else {
+				List<TypedTuple<String>> page = pageAfter(key, position, limit + 1);
+				page.forEach(t -> scores.put(Long.valueOf(t.getValue()), t.getScore()));
+				rooms = fetch(memberId, roomIds(page));
+			}
+
+			boolean hasNext = rooms.size() > limit;
+			List<ChatRoomListDto> content = hasNext ? rooms.subList(0, limit) : rooms;
+			ChatRoomListDto last = hasNext ? content.get(content.size() - 1) : null;
+			String nextCursor = last == null ? null : encodeCursor(scores.get(last.id()), last.id());
+
+			return new CursorSlice<>(content, limit, hasNext, nextCursor);
+		} catch (DataAccessException e) {
+			log.warn("채팅방 목록 캐시 조회 실패, DB 로 조회: memberId={}", memberId, e);
+			return chatRoomQueryRepository.getMyChatRoomsByCursor(memberId, keyword, cursor, size);
+		}
+	}
+
+	/**
+	 * 새 채팅방을 참여자들의 목록과 채팅방 스냅샷에 추가한다.
+	 * @param peers 회원 id → 그 회원에게 보일 상대방 정보 (profileImgUrl 은 원본 키)
+	 */
+	public void addRoom(Long chatRoomId, LocalDateTime createdAt, String title, Map<Long, OtherMemberDto> peers) {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			String roomKey = ROOM_KEY.formatted(chatRoomId);
+			stringRedisTemplate.opsForHash().putAll(roomKey, Map.of(
+				"title", title,
+				"createdAt", createdAt.toString(),
+				"score", String.valueOf(chatRoomId)
+			));
+			stringRedisTemplate.expire(roomKey, ROOM_TTL);
+
+			for (Map.Entry<Long, OtherMemberDto> peer : peers.entrySet()) {
+				stringRedisTemplate.execute(ADD_ROOM_SCRIPT,
+					List.of(INBOX_KEY.formatted(peer.getKey()), PEER_KEY.formatted(peer.getKey())),
+					String.valueOf(chatRoomId), String.valueOf(chatRoomId), toJson(peer.getValue()));
+			}
+		} catch (Exception e) {
+			log.warn("채팅방 목록 캐시 추가 실패: chatRoomId={}", chatRoomId, e);
+		}
+	}
+
+	/**
+	 * 새 메시지로 채팅방의 마지막 메시지를 갱신하고 참여자 목록에서 맨 앞으로 올린다.
+	 */
+	public void touch(Long chatRoomId, List<Long> memberIds, String lastMessage, LocalDateTime lastMessageTime) {
+		if (!enabled) {
+			return;
+		}
+
+		List<String> keys = new ArrayList<>(memberIds.size() + 1);
+		keys.add(ROOM_KEY.formatted(chatRoomId));
+		memberIds.forEach(memberId -> keys.add(INBOX_KEY.formatted(memberId)));
+
+		try {
+			stringRedisTemplate.execute(TOUCH_SCRIPT, keys,
+				String.valueOf(chatRoomId), String.valueOf(toScore(lastMessageTime)),
+				lastMessage, lastMessageTime.toString());
+		} catch (Exception e) {
+			log.warn("채팅방 목록 캐시 갱신 실패: chatRoomId={}", chatRoomId, e);
+		}
+	}
+
+	private String ensureLoaded(Long memberId) {
+		String key = INBOX_KEY.formatted(memberId);
+		if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+			rebuild(memberId);
+		}
+		return key;
+	}
+
+	// 키워드 검색은 회원의 전체 목록 스냅샷을 읽어 제목·상대방 닉네임으로 거른다
+	private List<ChatRoomListDto> search(Long memberId, String key, String keyword, Position position,
+		Map<Long, Double> scores) {
+		double max = position == null ? Double.POSITIVE_INFINITY : position.score();
+		List<TypedTuple<String>> after = sorted(stringRedisTemplate.opsForZSet()
+			.reverseRangeByScoreWithScores(key, MIN_SCORE, max)).stream()
+			.filter(t -> position == null || position.isBefore(t))
+			.toList();
+		after.forEach(t -> scores.put(Long.valueOf(t.getValue()), t.getScore()));
+
+		String lowerKeyword = keyword.toLowerCase();
+		return fetch(memberId, roomIds(after)).stream()
+			.filter(room -> contains(room.post().title(), lowerKeyword)
+				|| contains(room.otherMember().nickname(), lowerKeyword))
+			.toList();
+	}
+
+	/**
+	 * 커서 뒤의 방을 순서대로 count 건까지 읽는다.
+	 * 커서와 같은 점수의 방, 그리고 잘린 마지막 점수와 같은 점수의 방은 개수와 상관없이 모두 읽어 id 순서를 맞춘다.
+	 */
+	private List<TypedTuple<String>> pageAfter(String key, Position position, int count) {
+		List<TypedTuple<String>> page = new ArrayList<>();
+		double max = Double.POSITIVE_INFINITY;
+
+		if (position != null) {
+			if (position.score() < MIN_SCORE) {
+				return page;
+			}
+			sorted(stringRedisTemplate.opsForZSet()
+				.rangeByScoreWithScores(key, position.score(), position.score())).stream()
+				.filter(position::isBefore)
+				.forEach(page::add);
+			// 점수는 정수이므로 1 을 빼면 커서 점수 미만만 남는다
+			max = position.score() - 1;
+		}
+
+		if (page.size() < count) {
+			List<TypedTuple<String>> rest = sorted(stringRedisTemplate.opsForZSet()
+				.reverseRangeByScoreWithScores(key, MIN_SCORE, max, 0, count - page.size()));
+			if (rest.size() == count - page.size()) {
+				double lastScore = rest.get(rest.size() - 1).getScore();
+				rest.removeIf(t -> t.getScore() == lastScore);
+				rest.addAll(sorted(stringRedisTemplate.opsForZSet().rangeByScoreWithScores(key, lastScore, lastScore)));
+			}
+			page.addAll(rest);
+		}
+
+		return page.size() > count ? page.subList(0, count) : page;
+	}
+
+	private static List<TypedTuple<String>> sorted(Set<TypedTuple<String>> tuples) {
+		List<TypedTuple<String>> list = tuples == null ? new ArrayList<>() : new ArrayList<>(tuples);
+		list.sort(ORDER);
+		return list;
+	}
+
+	private List<ChatRoomListDto> fetch(Long memberId, List<Long> roomIds) {
+		if (roomIds.isEmpty()) {
+			return List.of();
+		}
+
+		List<ChatRoomListDto> rooms = load(memberId, roomIds);
+		if (rooms != null) {
+			return rooms;
+		}
+
+		Map<Long, ChatRoomListDto> rebuilt = rebuild(memberId).stream()
+			.collect(Collectors.toMap(ChatRoomListDto::id, Function.identity()));
+		return roomIds.stream().map(rebuilt::get).filter(Objects::nonNull).toList();
+	}
+
+	/**
+	 * 스냅샷을 파이프라인으로 읽는다. 하나라도 없으면 null.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<ChatRoomListDto> load(Long memberId, List<Long> roomIds) {
+		List<Object> roomHashes = stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			roomIds.forEach(id -> connection.hashCommands().hGetAll(bytes(ROOM_KEY.formatted(id))));
+			return null;
+		});
+		List<Object> peers = stringRedisTemplate.opsForHash().multiGet(PEER_KEY.formatted(memberId),
+			roomIds.stream().map(id -> (Object)String.valueOf(id)).toList());
+
+		List<ChatRoomListDto> rooms = new ArrayList<>(roomIds.size());
+		for (int i = 0; i < roomIds.size(); i++) {
+			Map<String, String> room = (Map<String, String>)roomHashes.get(i);
+			Object peer = peers.get(i);
+			if (room == null || room.get("title") == null || peer == null) {
+				return null;
+			}
+
+			try {
+				String lastMessageTime = room.get("lastMessageTime");
+				rooms.add(new ChatRoomListDto(
+					roomIds.get(i),
+					LocalDateTime.parse(room.get("createdAt")),
+					new ChatPostDto(room.get("title")),
+					redisObjectMapper.readValue((String)peer, OtherMemberDto.class),
+					room.get("lastMessage"),
+					lastMessageTime == null ? null : LocalDateTime.parse(lastMessageTime),
+					null
+				));
+			} catch (JsonProcessingException | DateTimeParseException e) {
+				log.warn("채팅방 목록 스냅샷 파싱 실패: chatRoomId={}", roomIds.get(i), e);
+				return null;
+			}
+		}
+		return rooms;
+	}
+
+	/**
+	 * DB 에서 회원의 전체 채팅방을 읽어 목록과 스냅샷을 다시 채운다.
+	 * 채팅방 스냅샷은 다른 참여자가 먼저 갱신했을 수 있으므로 없는 필드만 채운다.
+	 */
+	private List<ChatRoomListDto> rebuild(Long memberId) {
+		List<ChatRoomListDto> rooms = chatRoomQueryRepository.findMyChatRooms(memberId);
+
+		Map<String, String> peerFields = new LinkedHashMap<>();
+		Set<Tuple> tuples = new HashSet<>();
+		tuples.add(Tuple.of(bytes(LOADED), 0d));
+		for (ChatRoomListDto room : rooms) {
+			peerFields.put(String.valueOf(room.id()), toJson(room.otherMember()));
+			tuples.add(Tuple.of(bytes(String.valueOf(room.id())), (double)score(room)));
+		}
+
+		byte[] inboxKey = bytes(INBOX_KEY.formatted(memberId));
+		byte[] peerKey = bytes(PEER_KEY.formatted(memberId));
+
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (ChatRoomListDto room : rooms) {
+				byte[] roomKey = bytes(ROOM_KEY.formatted(room.id()));
+				connection.hashCommands().hSetNX(roomKey, bytes("title"), bytes(room.post().title()));
+				connection.hashCommands().hSetNX(roomKey, bytes("createdAt"), bytes(room.createdAt().toString()));
+				connection.hashCommands().hSetNX(roomKey, bytes("score"), bytes(String.valueOf(score(room))));
+				if (room.lastMessage() != null && room.lastMessageTime() != null) {
+					connection.hashCommands().hSetNX(roomKey, bytes("lastMessage"), bytes(room.lastMessage()));
+					connection.hashCommands().hSetNX(roomKey, bytes("lastMessageTime"),
+						bytes(room.lastMessageTime().toString()));
+				}
+				connection.keyCommands().expire(roomKey, ROOM_TTL.toSeconds());
+			}
+
+			connection.keyCommands().del(peerKey);
+			if (!peerFields.isEmpty()) {
+				Map<byte[], byte[]> fields = new LinkedHashMap<>();
+				peerFields.forEach((field, value) -> fields.put(bytes(field), bytes(value)));
+				connection.hashCommands().hMSet(peerKey, fields);
+				connection.keyCommands().expire(peerKey, PEER_TTL.toSeconds());
+			}
+
+			connection.keyCommands().del(inboxKey);
+			connection.zSetCommands().zAdd(inboxKey, tuples);
+			connection.keyCommands().expire(inboxKey, TTL.toSeconds());
+			return null;
+		});
+
+		return rooms;
+	}
+
+	/**
+	 * DB 커서와 같은 형식 (마지막 메시지 시각 또는 null, 채팅방 id)
+	 */
+	private static String encodeCursor(double score, long chatRoomId) {
+		long value = (long)score;
+		return CursorUt.encode(value == chatRoomId ? null : fromScore(value), chatRoomId);
+	}
+
+	private static Position decodeCursor(String cursor) {
+		try {
+			CursorUt.Cursor decoded = CursorUt.decode(cursor);
+			if (decoded == null) {
+				return null;
+			}
+			double score = decoded.sortValue() == null
+				? decoded.id()
+				: toScore(LocalDateTime.parse(decoded.sortValue()));
+			return new Position(score, decoded.id());
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new ServiceException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+		}
+	}
+
+	private static long score(ChatRoomListDto room) {
+		return room.lastMessageTime() == null ? room.id() : toScore(room.lastMessageTime());
+	}
+
+	// DB(datetime(6)) 와 같은 μs 단위. 현재 시각의 μs 값은 double 로 정확히 표현된다
+	private static long toScore(LocalDateTime time) {
+		return ChronoUnit.MICROS.between(Instant.EPOCH, time.atZone(ZoneId.systemDefault()).toInstant());
+	}
+
+	private static LocalDateTime fromScore(long score) {
+		return LocalDateTime.ofInstant(Instant.EPOCH.plus(score, ChronoUnit.MICROS), ZoneId.systemDefault());
+	}
+
+	private static List<Long> roomIds(Iterable<TypedTuple<String>> tuples) {
+		List<Long> ids = new ArrayList<>();
+		if (tuples != null) {
+			tuples.forEach(t -> ids.add(Long.valueOf(t.getValue())));
+		}
+		return ids;
+	}
+
+	private static boolean hasKeyword(String keyword) {
+		return keyword != null && !keyword.isBlank();
+	}
+
+	private static boolean contains(String value, String lowerKeyword) {
+		return value != null && value.toLowerCase().contains(lowerKeyword);
+	}
+
+	private String toJson(OtherMemberDto peer) {
+		try {
+			return redisObjectMapper.writeValueAsString(peer);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("상대방 정보 직렬화 실패", e);
+		}
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
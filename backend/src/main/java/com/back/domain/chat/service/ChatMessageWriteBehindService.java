@@ -0,0 +1,217 @@
+package com.back.domain.chat.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.back.domain.chat.dto.ChatMessageDto;
+import com.back.domain.chat.repository.ChatMessageBatchRepository;
+import com.back.domain.chat.repository.ChatMessageBatchRepository.Row;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 write-behind (custom.chat.write-behind.enabled).
+ * 메시지는 Redis Stream 에 추가되고, 컨슈머 그룹이 모아서 JDBC 배치로 저장한다 (id 는 DB AUTO_INCREMENT).
+ * 저장과 chat_room 갱신이 커밋된 뒤에 ACK 하므로 최소 한 번 처리되며, 재처리는 stream_id 유니크 키로 건너뛴다.
+ * 전파되는 메시지는 아직 저장 전이라 id 대신 스트림 레코드 id(streamId)를 가진다. 저장 전 메시지까지의 읽음 위치는
+ * ChatMember.lastReadStreamId 에 두었다가 저장하는 트랜잭션에서 lastReadMessageId 로 옮긴다.
+ * 오래 ACK 되지 않은 메시지(죽은 서버의 몫)는 다른 서버가 가져가 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageWriteBehindService {
+
+	private static final String STREAM_KEY = "chat:message:stream";
+	private static final String GROUP = "chat-message-writer";
+	private static final int BATCH_SIZE = 500;
+	private static final Duration BLOCK = Duration.ofSeconds(1);
+	private static final Duration CLAIM_IDLE = Duration.ofSeconds(30);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ChatMessageBatchRepository chatMessageBatchRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${custom.chat.write-behind.enabled:false}")
+	private boolean enabled;
+
+	private final String consumerName = "writer-" + UUID.randomUUID();
+	private volatile boolean running;
+	private Thread worker;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 메시지를 스트림에 추가하고 전송용 DTO(id 없이 streamId 만)를 반환한다. DB 저장은 컨슈머가 비동기로 한다.
+	 */
+	public ChatMessageDto append(Long chatRoomId, Long chatMemberId, Long senderId, String content) {
+		LocalDateTime createdAt = LocalDateTime.now();
+
+		RecordId recordId = stringRedisTemplate.opsForStream().add(StreamRecords.string(Map.of(
+			"chatRoomId", String.valueOf(chatRoomId),
+			"chatMemberId", String.valueOf(chatMemberId),
+			"content", content,
+			"createdAt", createdAt.toString()
+		)).withStreamKey(STREAM_KEY));
+
+		return new ChatMessageDto(null, senderId, content, createdAt, recordId.getValue());
+	}
+
+	@PostConstruct
+	void start() {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			stringRedisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+		} catch (Exception e) {
+			// BUSYGROUP: 이미 만들어진 그룹
+			log.debug("채팅 메시지 컨슈머 그룹 생성 생략: {}", e.getMessage());
+		}
+
+		running = true;
+		worker = Thread.ofVirtual().name("chat-message-writer").start(this::run);
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		if (worker == null) {
+			return;
+		}
+		running = false;
+		worker.interrupt();
+		worker.join(Duration.ofSeconds(5));
+	}
+
+	private void run() {
+		long lastClaimAt = 0L;
+
+		while (running) {
+			try {
+				if (System.currentTimeMillis() - lastClaimAt >= CLAIM_IDLE.toMillis()) {
+					flush(claimStale());
+					lastClaimAt = System.currentTimeMillis();
+				}
+
+				flush(stringRedisTemplate.opsForStream().read(
+					Consumer.from(GROUP, consumerName),
+					StreamReadOptions.empty().count(BATCH_SIZE).block(BLOCK),
+					StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed())
+				));
+			} catch (Exception e) {
+				if (!running) {
+					break;
+				}
+				log.error("채팅 메시지 저장 실패, 잠시 후 재시도", e);
+				sleepQuietly(BLOCK);
+			}
+		}
+	}
+
+	private List<MapRecord<String, Object, Object>> claimStale() {
+		PendingMessages pending = stringRedisTemplate.opsForStream()
+			.pending(STREAM_KEY, GROUP, Range.unbounded(), BATCH_SIZE);
+		if (pending == null || pending.isEmpty()) {
+			return List.of();
+		}
+
+		RecordId[] staleIds = pending.stream()
+			.filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(CLAIM_IDLE) >= 0)
+			.map(PendingMessage::getId)
+			.toArray(RecordId[]::new);
+		if (staleIds.length == 0) {
+			return List.of();
+		}
+
+		return stringRedisTemplate.opsForStream().claim(STREAM_KEY, GROUP, consumerName, CLAIM_IDLE, staleIds);
+	}
+
+	private void flush(List<MapRecord<String, Object, Object>> records) {
+		if (records == null || records.isEmpty()) {
+			return;
+		}
+
+		List<Row> rows = new ArrayList<>(records.size());
+		Map<Long, Row> latestByRoom = new LinkedHashMap<>();
+		for (MapRecord<String, Object, Object> record : records) {
+			Row row;
+			try {
+				row = toRow(record.getId(), record.getValue());
+			} catch (RuntimeException e) {
+				// 형식이 잘못된 레코드는 재시도해도 실패하므로 ACK 하고 건너뛴다
+				log.error("잘못된 채팅 메시지 레코드: id={}", record.getId(), e);
+				continue;
+			}
+			rows.add(row);
+			latestByRoom.merge(row.chatRoomId(), row,
+				(prev, next) -> compareStreamIds(next.streamId(), prev.streamId()) > 0 ? next : prev);
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			chatMessageBatchRepository.insertAll(rows);
+			chatMessageBatchRepository.updateLastMessages(latestByRoom.values());
+			chatMessageBatchRepository.resolvePendingReads(latestByRoom.keySet());
+		});
+
+		RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+		stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, ids);
+		stringRedisTemplate.opsForStream().delete(STREAM_KEY, ids);
+
+		log.debug("채팅 메시지 {}건 저장 ({}개 채팅방)", rows.size(), latestByRoom.size());
+	}
+
+	private static Row toRow(RecordId recordId, Map<Object, Object> fields) {
+		return new Row(
+			recordId.getValue(),
+			Long.valueOf((String)fields.get("chatRoomId")),
+			Long.valueOf((String)fields.get("chatMemberId")),
+			(String)fields.get("content"),
+			LocalDateTime.parse((String)fields.get("createdAt"))
+		);
+	}
+
+	/**
+	 * 스트림 레코드 id(밀리초-순번) 순서 비교
+	 */
+	public static int compareStreamIds(String a, String b) {
+		RecordId left = RecordId.of(a);
+		RecordId right = RecordId.of(b);
+
+		int compared = Long.compare(left.getTimestamp(), right.getTimestamp());
+		return compared != 0 ? compared : Long.compare(left.getSequence(), right.getSequence());
+	}
+
+	private static void sleepQuietly(Duration duration) {
+		try {
+			Thread.sleep(duration);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -1,10 +1,16 @@
 package com.back.domain.chat.service;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +23,7 @@ import com.back.domain.chat.dto.ChatNotiDto;
 import com.back.domain.chat.dto.ChatPostDto;
 import com.back.domain.chat.dto.ChatRoomDto;
 import com.back.domain.chat.dto.ChatRoomListDto;
+import com.back.domain.chat.dto.ChatUnreadResBody;
 import com.back.domain.chat.dto.CreateChatRoomResBody;
 import com.back.domain.chat.dto.NewMessageNotiDto;
 import com.back.domain.chat.dto.NewRoomNotiDto;
@@ -38,6 +45,9 @@ import com.back.domain.post.entity.Post;
 import com.back.domain.post.repository.PostRepository;
 import com.back.global.exception.ServiceException;
 import com.back.global.s3.S3Uploader;
+import com.back.standard.util.page.CursorPayload;
+import com.back.standard.util.page.CursorSlice;
+import com.back.standard.util.page.CursorUt;
 import com.back.standard.util.page.PagePayload;
 import com.back.standard.util.page.PageUt;
 
@@ -49,6 +59,9 @@ public class ChatService {
 
 	private static final String NOTI_NEW_ROOM = "NEW_ROOM";
 	private static final String NOTI_NEW_MESSAGE = "NEW_MESSAGE";
+	private static final int PREPARE_INFO_CACHE_SIZE = 10_000;
+	// Redis Stream 레코드 id (밀리초-순번)
+	private static final Pattern STREAM_ID_PATTERN = Pattern.compile("\\d+-\\d+");
 	private final MemberRepository memberRepository;
 	private final PostRepository postRepository;
 	private final ChatRoomRepository chatRoomRepository;
@@ -56,10 +69,24 @@ public class ChatService {
 	private final ChatMessageRepository chatMessageRepository;
 	private final ChatRoomQueryRepository chatRoomQueryRepository;
 	private final ChatMessageQueryRepository chatMessageQueryRepository;
-	private final StringRedisTemplate redisTemplate;
+	private final ChatUnreadCounter chatUnreadCounter;
+	private final ChatInbox chatInbox;
 	private final ChatMessagePublisher chatMessagePublisher;
 	private final ChatNotificationPublisher chatNotificationPublisher;
 	private final S3Uploader s3;
+	private final ChatMessageWriteBehindService chatMessageWriteBehindService;
+
+	@Autowired
+	@Lazy
+	private ChatService self;
+
+	private final Map<String, ChatMessagePrepareDto> prepareInfoCache = Collections.synchronizedMap(
+		new LinkedHashMap<>(256, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ChatMessagePrepareDto> eldest) {
+				return size() > PREPARE_INFO_CACHE_SIZE;
+			}
+		});
 
 	@Transactional
 	public CreateChatRoomResBody createOrGetChatRoom(Long postId, Long memberId) {
@@ -85,6 +112,7 @@ public class ChatService {
 		chatMemberRepository.save(ChatMember.create(chatRoom.getId(), memberId));
 
 		notifyNewRoom(hostId, chatRoom, post, guest);
+		addToInbox(chatRoom, post.getAuthor(), guest);
 
 		return new CreateChatRoomResBody("채팅방이 생성되었습니다.", chatRoom.getId());
 	}
@@ -121,22 +149,55 @@ public class ChatService {
 		);
 	}
 
+	private void addToInbox(ChatRoom chatRoom, Member host, Member guest) {
+
+		Map<Long, OtherMemberDto> peers = Map.of(
+			host.getId(), new OtherMemberDto(guest.getId(), guest.getNickname(), guest.getProfileImgUrl()),
+			guest.getId(), new OtherMemberDto(host.getId(), host.getNickname(), host.getProfileImgUrl())
+		);
+
+		executeAfterCommit(() ->
+			chatInbox.addRoom(chatRoom.getId(), chatRoom.getCreatedAt(), chatRoom.getPostTitleSnapshot(), peers)
+		);
+	}
+
 	@Transactional(readOnly = true)
 	public PagePayload<ChatRoomListDto> getMyChatRooms(Long memberId, Pageable pageable, String keyword) {
 
-		Page<ChatRoomListDto> chatRooms = chatRoomQueryRepository.getMyChatRooms(memberId, pageable, keyword);
-
-		Page<ChatRoomListDto> enrichedPage = chatRooms.map(dto -> {
-			String key = unreadKey(memberId, dto.id());
-			Integer unreadCount = getUnreadCount(key);
+		Page<ChatRoomListDto> chatRooms = chatInbox.getMyChatRooms(memberId, pageable, keyword);
 
-			String thumbUrl = s3.getPostThumbnailUrl(dto.otherMember().profileImgUrl());
-			return dto.withUnreadCount(unreadCount, thumbUrl);
-		});
+		Map<Long, Integer> unreadCounts = getUnreadCounts(memberId, chatRooms.getContent());
+		Page<ChatRoomListDto> enrichedPage = chatRooms.map(dto -> enrichChatRoom(dto, unreadCounts));
 
 		return PageUt.of(enrichedPage);
 	}
 
+	@Transactional(readOnly = true)
+	public CursorPayload<ChatRoomListDto> getMyChatRoomsByCursor(Long memberId, String cursor, int size,
+		String keyword) {
+
+		CursorSlice<ChatRoomListDto> chatRooms = chatInbox.getMyChatRoomsByCursor(memberId, keyword, cursor, size);
+
+		Map<Long, Integer> unreadCounts = getUnreadCounts(memberId, chatRooms.content());
+		return CursorUt.of(chatRooms.map(dto -> enrichChatRoom(dto, unreadCounts)));
+	}
+
+	private Map<Long, Integer> getUnreadCounts(Long memberId, List<ChatRoomListDto> chatRooms) {
+		if (chatRooms.isEmpty()) {
+			return Map.of();
+		}
+		return chatUnreadCounter.getCounts(memberId, chatRooms.stream().map(ChatRoomListDto::id).toList());
+	}
+
+	private ChatRoomListDto enrichChatRoom(ChatRoomListDto dto, Map<Long, Integer> unreadCounts) {
+		String thumbUrl = s3.getPostThumbnailUrl(dto.otherMember().profileImgUrl());
+		return dto.withUnreadCount(unreadCounts.getOrDefault(dto.id(), 0), thumbUrl);
+	}
+
+	public ChatUnreadResBody getUnreadCount(Long memberId) {
+		return new ChatUnreadResBody(chatUnreadCounter.getTotal(memberId));
+	}
+
 	@Transactional(readOnly = true)
 	public ChatRoomDto getChatRoom(Long chatRoomId, Long memberId) {
 
@@ -172,6 +233,50 @@ public class ChatService {
 		return PageUt.of(chatMessageQueryRepository.getChatMessages(chatRoomId, memberId, pageable));
 	}
 
+	@Transactional(readOnly = true)
+	public CursorPayload<ChatMessageDto> getChatMessagesBefore(Long chatRoomId, Long memberId, Long beforeId, int size) {
+
+		if (!chatRoomQueryRepository.isMemberInChatRoom(chatRoomId, memberId)) {
+			throw new ServiceException(HttpStatus.FORBIDDEN, "채팅방이 존재하지 않거나 접근 권한이 없습니다.");
+		}
+
+		return CursorUt.of(chatMessageQueryRepository.getChatMessagesBefore(chatRoomId, beforeId, size));
+	}
+
+	/**
+	 * 메시지를 보낸다. write-behind 모드면 DB 트랜잭션 없이 Redis Stream 에 추가하고 바로 전파한다.
+	 */
+	public void sendMessage(Long chatRoomId, SendChatMessageDto body, Long memberId) {
+		if (!chatMessageWriteBehindService.isEnabled()) {
+			self.saveMessage(chatRoomId, body, memberId);
+			return;
+		}
+
+		ChatMessagePrepareDto prepareInfo = getCachedPrepareInfo(chatRoomId, memberId);
+
+		ChatMessageDto dto = chatMessageWriteBehindService.append(
+			chatRoomId, prepareInfo.chatMemberId(), memberId, body.content());
+
+		chatUnreadCounter.increment(prepareInfo.otherMemberId(), chatRoomId);
+		chatInbox.touch(chatRoomId, List.of(memberId, prepareInfo.otherMemberId()), dto.content(), dto.createdAt());
+
+		publishMessageAndNotification(chatRoomId, prepareInfo.otherMemberId(), dto);
+	}
+
+	// 채팅방 참여자는 바뀌지 않으므로 (채팅방, 회원) 별 조회 결과를 재사용한다
+	private ChatMessagePrepareDto getCachedPrepareInfo(Long chatRoomId, Long memberId) {
+		String key = chatRoomId + ":" + memberId;
+		ChatMessagePrepareDto cached = prepareInfoCache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		ChatMessagePrepareDto prepareInfo = chatRoomQueryRepository.getChatMessagePrepareInfo(chatRoomId, memberId)
+			.orElseThrow(() -> new ServiceException(HttpStatus.FORBIDDEN, "채팅방이 존재하지 않거나 접근 권한이 없습니다."));
+		prepareInfoCache.put(key, prepareInfo);
+		return prepareInfo;
+	}
+
 	@Transactional
 	public void saveMessage(Long chatRoomId, SendChatMessageDto body, Long memberId) {
 
@@ -181,25 +286,25 @@ public class ChatService {
 		ChatMessage chatMessage = ChatMessage.create(body.content(), chatRoomId, prepareInfo.chatMemberId());
 		chatMessageRepository.save(chatMessage);
 
-		redisTemplate.opsForValue().increment(unreadKey(prepareInfo.otherMemberId(), chatRoomId));
-
 		chatRoomQueryRepository.updateLastMessage(chatRoomId, chatMessage.getContent(), chatMessage.getCreatedAt());
 
-		executeAfterCommit(() ->
-			publishMessageAndNotification(chatRoomId, memberId, prepareInfo.otherMemberId(), chatMessage)
-		);
-	}
-
-	private void publishMessageAndNotification(Long chatRoomId, Long senderId, Long receiverId,
-		ChatMessage chatMessage) {
-
 		ChatMessageDto dto = new ChatMessageDto(
 			chatMessage.getId(),
-			senderId,
+			memberId,
 			chatMessage.getContent(),
-			chatMessage.getCreatedAt()
+			chatMessage.getCreatedAt(),
+			null
 		);
 
+		executeAfterCommit(() -> {
+			chatUnreadCounter.increment(prepareInfo.otherMemberId(), chatRoomId);
+			chatInbox.touch(chatRoomId, List.of(memberId, prepareInfo.otherMemberId()), dto.content(), dto.createdAt());
+			publishMessageAndNotification(chatRoomId, prepareInfo.otherMemberId(), dto);
+		});
+	}
+
+	private void publishMessageAndNotification(Long chatRoomId, Long receiverId, ChatMessageDto dto) {
+
 		chatMessagePublisher.publish(chatRoomId, dto);
 
 		chatNotificationPublisher.publish(
@@ -209,32 +314,46 @@ public class ChatService {
 	}
 
 	@Transactional
-	public void markAsRead(Long chatRoomId, Long memberId, Long lastMessageId) {
+	public void markAsRead(Long chatRoomId, Long memberId, Long lastMessageId, String lastStreamId) {
 
 		ChatMember chatMember = chatRoomQueryRepository.findChatMember(chatRoomId, memberId)
 			.orElseThrow(() -> new ServiceException(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."));
 
-		chatMember.updateLastReadMessageId(lastMessageId);
+		if (lastMessageId != null) {
+			chatMember.updateLastReadMessageId(lastMessageId);
+		} else if (lastStreamId != null) {
+			markAsReadByStreamId(chatMember, chatRoomId, lastStreamId);
+		} else {
+			// 둘 다 생략하면 저장된 마지막 메시지까지 읽음 처리
+			chatMember.updateLastReadMessageId(chatMessageQueryRepository.findLastMessageId(chatRoomId));
+		}
 
 		executeAfterCommit(() ->
-			redisTemplate.delete(unreadKey(memberId, chatRoomId))
+			chatUnreadCounter.clear(memberId, chatRoomId)
 		);
 	}
 
-	private Integer getUnreadCount(String key) {
-		String unreadStr = redisTemplate.opsForValue().get(key);
-		if (unreadStr == null)
-			return 0;
+	/**
+	 * write-behind 로 전파된 메시지(streamId)까지 읽음 처리. 이미 저장됐으면 그 id 로, 아직 저장 전이면
+	 * 저장된 메시지까지 읽음 처리하고 스트림 id 를 남겨 저장될 때 옮기게 한다 (ChatMessageWriteBehindService 참고).
+	 */
+	private void markAsReadByStreamId(ChatMember chatMember, Long chatRoomId, String streamId) {
+		Long messageId = chatMessageQueryRepository.findIdByStreamId(chatRoomId, streamId);
+		if (messageId != null) {
+			chatMember.updateLastReadMessageId(messageId);
+			return;
+		}
 
-		try {
-			return Integer.parseInt(unreadStr);
-		} catch (NumberFormatException e) {
-			return 0;
+		if (!STREAM_ID_PATTERN.matcher(streamId).matches()) {
+			throw new ServiceException(HttpStatus.BAD_REQUEST, "잘못된 메시지 식별자입니다.");
 		}
-	}
 
-	private String unreadKey(Long memberId, Long chatRoomId) {
-		return "unread:" + memberId + ":" + chatRoomId;
+		chatMember.updateLastReadMessageId(chatMessageQueryRepository.findLastMessageId(chatRoomId));
+
+		String pending = chatMember.getLastReadStreamId();
+		if (pending == null || ChatMessageWriteBehindService.compareStreamIds(streamId, pending) > 0) {
+			chatMember.updateLastReadStreamId(streamId);
+		}
 	}
 
 	private void executeAfterCommit(Runnable action) {
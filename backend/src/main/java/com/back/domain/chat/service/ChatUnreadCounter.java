@@ -0,0 +1,165 @@
+package com.back.domain.chat.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import com.back.domain.chat.repository.ChatMessageQueryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 채팅 안 읽은 메시지 수 (Redis 해시 chat:unread:{memberId}: 채팅방 id → 개수, total → 합계).
+ * 키가 있을 때만 증감하고, 키가 없으면(만료·유실) 조회 시 ChatMember.lastReadMessageId 기준으로 DB 에서 다시 채운다.
+ * 증감·초기화마다 세대 키를 올리고, DB 집계는 집계 전에 읽은 세대가 그대로이고 키가 없을 때만 저장해
+ * 집계 도중의 증가·읽음 처리가 덮어써지지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatUnreadCounter {
+
+	private static final String KEY = "chat:unread:%d";
+	private static final String GENERATION_KEY = "chat:unread:gen:%d";
+	private static final String TOTAL = "total";
+	private static final Duration TTL = Duration.ofDays(1);
+	// 세대 키는 집계 중인 조회보다 오래 살아 있으면 된다
+	private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+	// KEYS: 수, 세대 / ARGV: 채팅방 id, 세대 TTL(초)
+	private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('INCR', KEYS[2])
+		redis.call('EXPIRE', KEYS[2], ARGV[2])
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			return 0
+		end
+		redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+		redis.call('HINCRBY', KEYS[1], 'total', 1)
+		return 1
+		""", Long.class);
+
+	// KEYS: 수, 세대 / ARGV: 채팅방 id, 세대 TTL(초)
+	private static final DefaultRedisScript<Long> CLEAR_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('INCR', KEYS[2])
+		redis.call('EXPIRE', KEYS[2], ARGV[2])
+		local count = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+		if count > 0 then
+			redis.call('HDEL', KEYS[1], ARGV[1])
+			redis.call('HINCRBY', KEYS[1], 'total', -count)
+		end
+		return count
+		""", Long.class);
+
+	// KEYS: 수, 세대 / ARGV: 집계 전 세대, TTL(초), field1, count1, ...
+	private static final DefaultRedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>("""
+		if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then
+			return 0
+		end
+		for i = 3, #ARGV, 2 do
+			redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+		end
+		redis.call('EXPIRE', KEYS[1], ARGV[2])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ChatMessageQueryRepository chatMessageQueryRepository;
+
+	public void increment(Long memberId, Long chatRoomId) {
+		try {
+			stringRedisTemplate.execute(INCREMENT_SCRIPT, keys(memberId),
+				String.valueOf(chatRoomId), String.valueOf(GENERATION_TTL.toSeconds()));
+		} catch (Exception e) {
+			log.warn("채팅 안 읽은 수 증가 실패: memberId={}, chatRoomId={}", memberId, chatRoomId, e);
+		}
+	}
+
+	public void clear(Long memberId, Long chatRoomId) {
+		try {
+			stringRedisTemplate.execute(CLEAR_SCRIPT, keys(memberId),
+				String.valueOf(chatRoomId), String.valueOf(GENERATION_TTL.toSeconds()));
+		} catch (Exception e) {
+			log.warn("채팅 안 읽은 수 초기화 실패: memberId={}, chatRoomId={}", memberId, chatRoomId, e);
+		}
+	}
+
+	/**
+	 * 채팅방들의 안 읽은 수를 HMGET 한 번으로 조회
+	 */
+	public Map<Long, Integer> getCounts(Long memberId, List<Long> chatRoomIds) {
+		List<Object> fields = new ArrayList<>(chatRoomIds.size() + 1);
+		fields.add(TOTAL);
+		chatRoomIds.forEach(id -> fields.add(String.valueOf(id)));
+
+		List<Object> values = stringRedisTemplate.opsForHash().multiGet(KEY.formatted(memberId), fields);
+		if (values.get(0) == null) {
+			Map<Long, Integer> rebuilt = rebuild(memberId);
+			Map<Long, Integer> counts = new HashMap<>();
+			chatRoomIds.forEach(id -> counts.put(id, rebuilt.getOrDefault(id, 0)));
+			return counts;
+		}
+
+		Map<Long, Integer> counts = new HashMap<>();
+		for (int i = 0; i < chatRoomIds.size(); i++) {
+			counts.put(chatRoomIds.get(i), parse(values.get(i + 1)));
+		}
+		return counts;
+	}
+
+	public int getTotal(Long memberId) {
+		Object total = stringRedisTemplate.opsForHash().get(KEY.formatted(memberId), TOTAL);
+		if (total == null) {
+			return rebuild(memberId).values().stream().mapToInt(Integer::intValue).sum();
+		}
+		return parse(total);
+	}
+
+	/**
+	 * DB 에서 다시 집계한다. 집계 전에 읽은 세대가 그대로이고 키가 없을 때만 저장한다.
+	 * (집계 도중 증가·읽음 처리가 있었으면 저장하지 않고 다음 조회에서 다시 집계)
+	 */
+	private Map<Long, Integer> rebuild(Long memberId) {
+		String generation = Objects.requireNonNullElse(
+			stringRedisTemplate.opsForValue().get(GENERATION_KEY.formatted(memberId)), "");
+
+		Map<Long, Integer> counts = new HashMap<>();
+		chatMessageQueryRepository.countUnreadByChatRoom(memberId)
+			.forEach((chatRoomId, count) -> counts.put(chatRoomId, count.intValue()));
+
+		List<String> args = new ArrayList<>();
+		args.add(generation);
+		args.add(String.valueOf(TTL.toSeconds()));
+		counts.forEach((chatRoomId, count) -> {
+			args.add(String.valueOf(chatRoomId));
+			args.add(String.valueOf(count));
+		});
+		args.add(TOTAL);
+		args.add(String.valueOf(counts.values().stream().mapToInt(Integer::intValue).sum()));
+
+		stringRedisTemplate.execute(STORE_SCRIPT, keys(memberId), args.toArray());
+		return counts;
+	}
+
+	private static List<String> keys(Long memberId) {
+		return List.of(KEY.formatted(memberId), GENERATION_KEY.formatted(memberId));
+	}
+
+	private static int parse(Object value) {
+		if (value == null) {
+			return 0;
+		}
+		try {
+			return Math.max(0, Integer.parseInt((String)value));
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+}
@@ -1,10 +1,13 @@
 package com.back.domain.chat.service;
 
-import com.back.domain.chat.dto.ChatMessageDto;
 import com.back.domain.chat.dto.ChatNotiDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -12,8 +15,16 @@ public class ChatWebsocketService {
 
     private final SimpMessagingTemplate messagingTemplate;
 
-    public void broadcastMessage(Long chatRoomId, ChatMessageDto message) {
-        messagingTemplate.convertAndSend("/sub/chat/" + chatRoomId, message);
+    /**
+     * 이미 JSON 으로 직렬화된 메시지를 변환 없이 채팅방 구독자에게 보낸다.
+     */
+    public void broadcastMessage(Long chatRoomId, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        messagingTemplate.send("/sub/chat/" + chatRoomId,
+                MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
     }
 
     public void notify(Long memberId, ChatNotiDto notification) {
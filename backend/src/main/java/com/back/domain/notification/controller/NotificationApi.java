@@ -5,8 +5,10 @@ import com.back.domain.notification.dto.NotificationResBody;
 import com.back.domain.notification.dto.NotificationUnreadResBody;
 import com.back.global.rsData.RsData;
 import com.back.global.security.SecurityUser;
+import com.back.standard.util.page.CursorPayload;
 import com.back.standard.util.page.PagePayload;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
@@ -15,13 +17,17 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Notification API", description = "알림 API, 인증 정보 필요")
 public interface NotificationApi {
 
-    @Operation(summary = "알림 SSE 연결 API", description = "알림 도메인 SSE 연결")
-    SseEmitter subscribe(@AuthenticationPrincipal SecurityUser securityUser);
+    @Operation(summary = "알림 SSE 연결 API", description = "알림 도메인 SSE 연결, Last-Event-ID 헤더가 있으면 이후 놓친 알림을 먼저 전송")
+    SseEmitter subscribe(
+            @AuthenticationPrincipal SecurityUser securityUser,
+            @Parameter(description = "마지막으로 받은 알림 이벤트 id") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId);
 
     @Operation(summary = "알림 목록 페이징 조회 API", description = "알림 목록 페이징 조회")
     ResponseEntity<RsData<PagePayload<NotificationResBody<? extends NotificationData>>>> readNotifications(
@@ -29,8 +35,13 @@ public interface NotificationApi {
             @ParameterObject @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable);
 
 
+    @Operation(summary = "알림 목록 커서 조회 API", description = "COUNT 없이 커서 기반으로 알림 목록 조회")
+    ResponseEntity<RsData<CursorPayload<NotificationResBody<? extends NotificationData>>>> readNotificationsByCursor(
+            @AuthenticationPrincipal SecurityUser securityUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size);
 
-    @Operation(summary = "읽지 않은 알림 여부 조회 API", description = "읽지 않은 알림 여부 응답")
+    @Operation(summary = "읽지 않은 알림 여부 조회 API", description = "읽지 않은 알림 여부와 전체 및 유형별 개수 응답")
     ResponseEntity<RsData<NotificationUnreadResBody>> hasUnread(@AuthenticationPrincipal SecurityUser securityUser);
 
     @Operation(summary = "알림 모두 읽음 처리 API", description = "알림 모두 읽음 처리")
@@ -7,6 +7,7 @@ import com.back.domain.notification.service.NotificationService;
 import com.back.domain.notification.service.SseNotificationService;
 import com.back.global.rsData.RsData;
 import com.back.global.security.SecurityUser;
+import com.back.standard.util.page.CursorPayload;
 import com.back.standard.util.page.PagePayload;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
@@ -28,8 +29,10 @@ public class NotificationController implements NotificationApi {
     private final SseNotificationService sseNotificationService;
 
     @GetMapping("/subscribe")
-    public SseEmitter subscribe(@AuthenticationPrincipal SecurityUser securityUser) {
-        return sseNotificationService.subscribe(securityUser.getId());
+    public SseEmitter subscribe(
+            @AuthenticationPrincipal SecurityUser securityUser,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return sseNotificationService.subscribe(securityUser.getId(), lastEventId);
     }
 
     @GetMapping
@@ -46,6 +49,18 @@ public class NotificationController implements NotificationApi {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<RsData<CursorPayload<NotificationResBody<? extends NotificationData>>>> readNotificationsByCursor(
+            @AuthenticationPrincipal SecurityUser securityUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPayload<NotificationResBody<? extends NotificationData>> data =
+                notificationService.getNotificationsByCursor(securityUser.getId(), cursor, size);
+
+        return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "알림 목록 조회", data));
+    }
+
     @GetMapping("/unread")
     public ResponseEntity<RsData<NotificationUnreadResBody>> hasUnread(@AuthenticationPrincipal SecurityUser securityUser) {
         NotificationUnreadResBody notificationUnreadResBody = notificationService.hasUnread(securityUser.getId());
@@ -0,0 +1,10 @@
+package com.back.domain.notification.dto;
+
+import com.back.domain.notification.common.NotificationType;
+
+public record NotificationRequest(
+        Long targetMemberId,
+        NotificationType type,
+        Long targetId
+) {
+}
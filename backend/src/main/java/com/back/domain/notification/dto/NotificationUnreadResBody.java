@@ -1,6 +1,12 @@
 package com.back.domain.notification.dto;
 
+import com.back.domain.notification.common.NotificationType;
+
+import java.util.Map;
+
 public record NotificationUnreadResBody(
-        Boolean hasUnread
+        Boolean hasUnread,
+        Long unreadCount,
+        Map<NotificationType.GroupType, Long> unreadCountByGroup
 ) {
 }
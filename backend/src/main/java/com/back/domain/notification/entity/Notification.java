@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "notification")
+@Table(name = "notification", indexes = @Index(name = "idx_notification_member_read",
+        columnList = "member_id, is_read"))
 public class Notification extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
@@ -30,6 +31,11 @@ public class Notification extends BaseEntity {
         isRead = true;
     }
 
+    // 병합: 같은 GroupType·대상의 더 최신 알림으로 유형만 바꾼다 (읽지 않은 상태 유지)
+    public void replaceType(NotificationType type) {
+        this.type = type;
+    }
+
     public static Notification create(NotificationType type, Long targetId, Long memberId) {
         Notification notification = new Notification();
         notification.type = type;
@@ -0,0 +1,70 @@
+package com.back.domain.notification.pubsub.publisher;
+
+import com.back.domain.notification.common.NotificationData;
+import com.back.domain.notification.dto.NotificationResBody;
+import com.back.domain.notification.pubsub.subscriber.SseNotificationSubscriber;
+import com.back.domain.notification.service.SseEventLog;
+import com.back.global.sse.SseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SseNotificationPublisher {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper redisObjectMapper;
+    private final SseNotificationSubscriber sseNotificationSubscriber;
+    private final SseEventLog sseEventLog;
+
+    /**
+     * 알림을 회원 이벤트 로그에 남기고(스트림 id 가 SSE 이벤트 id) 회원 채널로 발행한다.
+     * 발행에 실패하면 이 서버의 emitter 로만 전송한다.
+     */
+    public void publish(Long memberId, List<NotificationResBody<? extends NotificationData>> messages) {
+        List<String> payloads = new ArrayList<>(messages.size());
+        try {
+            for (NotificationResBody<? extends NotificationData> message : messages) {
+                payloads.add(redisObjectMapper.writeValueAsString(message));
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize SSE notification: memberId={}", memberId, e);
+            return;
+        }
+
+        List<SseEvent> events = payloads.stream()
+                .map(payload -> new SseEvent(sseEventLog.append(memberId, payload), payload))
+                .toList();
+
+        try {
+            stringRedisTemplate.convertAndSend(
+                    SseNotificationSubscriber.topicOf(memberId).getTopic(),
+                    toJsonArray(events)
+            );
+            log.debug("Published SSE notification to member {}: {}건", memberId, events.size());
+
+        } catch (Exception e) {
+            log.error("Failed to publish SSE notification: memberId={}", memberId, e);
+            sseNotificationSubscriber.deliver(memberId, events);
+        }
+    }
+
+    // 알림 본문은 이미 JSON 이므로 다시 직렬화하지 않고 이어 붙인다 (스트림 id 는 숫자와 '-' 뿐)
+    private static String toJsonArray(List<SseEvent> events) {
+        StringJoiner joiner = new StringJoiner(",", "[", "]");
+        for (SseEvent event : events) {
+            String id = event.id() != null ? "\"" + event.id() + "\"" : "null";
+            joiner.add("{\"id\":" + id + ",\"data\":" + event.data() + "}");
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package com.back.domain.notification.pubsub.subscriber;
+
+import com.back.global.sse.EmitterRepository;
+import com.back.global.sse.SseEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 채널(sse:notification:{memberId})로 알림을 받아 이 서버에 연결된 SSE emitter 로 전달한다.
+ * 이 서버에 emitter 가 있는 회원의 채널만 구독한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SseNotificationSubscriber implements MessageListener {
+
+    public static final String CHANNEL_PREFIX = "sse:notification:";
+
+    private final EmitterRepository emitterRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper redisObjectMapper;
+
+    // 회원별 로컬 emitter 수 (0 이 되면 채널 구독 해제)
+    private final Map<Long, Integer> localConnections = new ConcurrentHashMap<>();
+
+    public static ChannelTopic topicOf(Long memberId) {
+        return new ChannelTopic(CHANNEL_PREFIX + memberId);
+    }
+
+    public void register(Long memberId) {
+        localConnections.compute(memberId, (id, count) -> {
+            if (count == null) {
+                redisMessageListenerContainer.addMessageListener(this, topicOf(id));
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    public void removeEmitter(Long memberId, String emitterId) {
+        if (!emitterRepository.deleteEmitter(memberId, emitterId)) {
+            return;
+        }
+
+        localConnections.computeIfPresent(memberId, (id, count) -> {
+            if (count > 1) {
+                return count - 1;
+            }
+            redisMessageListenerContainer.removeMessageListener(this, topicOf(id));
+            return null;
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            Long memberId = Long.valueOf(channel.substring(CHANNEL_PREFIX.length()));
+
+            JsonNode nodes = redisObjectMapper.readTree(message.getBody());
+            List<SseEvent> events = new ArrayList<>(nodes.size());
+            nodes.forEach(node -> events.add(new SseEvent(
+                    node.path("id").isTextual() ? node.get("id").asText() : null,
+                    node.get("data").toString()
+            )));
+
+            deliver(memberId, events);
+        } catch (Exception e) {
+            log.error("Failed to process SSE notification from Redis", e);
+        }
+    }
+
+    /**
+     * 직렬화된 알림을 이 서버 emitter 들의 전송 큐에 넣는다 (전송은 연결별 가상 스레드가 담당)
+     */
+    public void deliver(Long memberId, List<SseEvent> events) {
+        emitterRepository.findEmittersByMemberId(memberId)
+                .values()
+                .forEach(connection -> events.forEach(connection::send));
+    }
+}
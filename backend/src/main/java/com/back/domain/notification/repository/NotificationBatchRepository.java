@@ -0,0 +1,71 @@
+package com.back.domain.notification.repository;
+
+import com.back.domain.notification.dto.NotificationRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (created_at, modified_at, type, target_id, is_read, member_id) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림들을 JDBC 배치로 저장하고 생성된 id 를 요청 순서대로 반환 (호출한 트랜잭션에 참여)
+     */
+    public List<Long> insertAll(List<NotificationRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NotificationRequest request = requests.get(i);
+                        ps.setTimestamp(1, now);
+                        ps.setTimestamp(2, now);
+                        ps.setString(3, request.type().name());
+                        if (request.targetId() != null) {
+                            ps.setLong(4, request.targetId());
+                        } else {
+                            ps.setNull(4, Types.BIGINT);
+                        }
+                        ps.setBoolean(5, false);
+                        ps.setLong(6, request.targetMemberId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return requests.size();
+                    }
+                },
+                keyHolder);
+
+        // 드라이버마다 키 컬럼명이 달라(insert_id, GENERATED_KEY, ID 등) 첫 번째 값을 사용
+        return keyHolder.getKeyList().stream()
+                .map(Map::values)
+                .map(values -> ((Number) values.iterator().next()).longValue())
+                .toList();
+    }
+}
@@ -0,0 +1,66 @@
+package com.back.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * notification 테이블의 월별 RANGE 파티션 관리 (V6 마이그레이션).
+ * 파티션되지 않은 테이블(테스트의 ddl-auto 등)이면 조회 결과가 비어 있다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationPartitionRepository {
+
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param upperBound 이 날짜 미만의 행을 담는 파티션 (MAXVALUE 파티션은 null)
+     */
+    public record Partition(String name, LocalDate upperBound) {
+    }
+
+    public List<Partition> findAll() {
+        return jdbcTemplate.query("""
+                        SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+                        FROM information_schema.PARTITIONS
+                        WHERE TABLE_SCHEMA = DATABASE()
+                          AND TABLE_NAME = 'notification'
+                          AND PARTITION_NAME IS NOT NULL
+                        ORDER BY PARTITION_ORDINAL_POSITION
+                        """,
+                (rs, rowNum) -> new Partition(rs.getString(1), parseUpperBound(rs.getString(2))));
+    }
+
+    /**
+     * 비어 있는 pmax 를 나눠 month 파티션을 만든다.
+     */
+    public void addMonth(YearMonth month) {
+        jdbcTemplate.execute("""
+                ALTER TABLE notification REORGANIZE PARTITION %s INTO (
+                    PARTITION %s VALUES LESS THAN ('%s'),
+                    PARTITION %s VALUES LESS THAN (MAXVALUE)
+                )
+                """.formatted(MAX_PARTITION, month.format(NAME_FORMAT), month.plusMonths(1).atDay(1), MAX_PARTITION));
+    }
+
+    public void drop(String partitionName) {
+        jdbcTemplate.execute("ALTER TABLE notification DROP PARTITION `%s`".formatted(partitionName));
+    }
+
+    // RANGE COLUMNS 의 경계값은 '2026-11-01 00:00:00' 형태
+    private static LocalDate parseUpperBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").substring(0, 10));
+    }
+}
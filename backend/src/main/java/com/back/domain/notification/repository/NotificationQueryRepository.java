@@ -1,10 +1,21 @@
 package com.back.domain.notification.repository;
 
+import com.back.domain.notification.common.NotificationType;
 import com.back.domain.notification.entity.Notification;
 import com.back.global.queryDsl.CustomQuerydslRepositorySupport;
+import com.back.global.queryDsl.Keyset;
+import com.back.standard.util.page.CursorSlice;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
 import static com.back.domain.notification.entity.QNotification.notification;
 
 @Repository
@@ -23,4 +34,59 @@ public class NotificationQueryRepository extends CustomQuerydslRepositorySupport
                         .and(notification.isRead.eq(false)))
                 .execute();
     }
+
+    public CursorSlice<Notification> findByMemberIdByCursor(Long memberId, String cursor, int size) {
+        return applyCursorPagination(cursor, size,
+                Keyset.desc(notification.createdAt, LocalDateTime.class, notification.id,
+                        Notification::getCreatedAt, Notification::getId),
+                query -> query.selectFrom(notification)
+                        .where(notification.memberId.eq(memberId)));
+    }
+
+    /**
+     * since 이후 생성된 회원들의 읽지 않은 알림 (알림 병합 대상 조회, id 순)
+     */
+    public List<Notification> findUnreadCreatedSince(Collection<Long> memberIds, LocalDateTime since) {
+        return select(notification)
+                .from(notification)
+                .where(notification.memberId.in(memberIds),
+                        notification.isRead.eq(false),
+                        notification.createdAt.goe(since))
+                .orderBy(notification.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 회원의 읽지 않은 알림 수를 유형별로 집계
+     */
+    public Map<NotificationType, Long> countUnreadByType(Long memberId) {
+        NumberExpression<Long> count = notification.count();
+
+        Map<NotificationType, Long> counts = new EnumMap<>(NotificationType.class);
+        for (Tuple tuple : getQueryFactory()
+                .select(notification.type, count)
+                .from(notification)
+                .where(notification.memberId.eq(memberId),
+                        notification.isRead.eq(false))
+                .groupBy(notification.type)
+                .fetch()) {
+            counts.put(tuple.get(notification.type), tuple.get(count));
+        }
+        return counts;
+    }
+
+    /**
+     * before 이전에 생성된 읽은 알림 id 를 id 순 keyset 으로 조회 (보관 기간 정리용)
+     */
+    public List<Long> findReadIdsCreatedBefore(LocalDateTime before, long afterId, int limit) {
+        return getQueryFactory()
+                .select(notification.id)
+                .from(notification)
+                .where(notification.id.gt(afterId),
+                        notification.createdAt.lt(before),
+                        notification.isRead.isTrue())
+                .orderBy(notification.id.asc())
+                .limit(limit)
+                .fetch();
+    }
 }
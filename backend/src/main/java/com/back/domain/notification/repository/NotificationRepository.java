@@ -10,22 +10,20 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    Boolean existsByMemberIdAndIsReadFalse(Long memberId);
-
     Optional<Notification> findNotificationWithMemberById(Long id);
 
     Page<Notification> findAllByMemberIdOrderByCreatedAtDesc(Long memberId, Pageable pageable);
 
     @Modifying
-    @Query("DELETE FROM Notification n WHERE n.createdAt < :dateTime AND n.isRead = true")
-    int deleteOldReadNotifications(@Param("dateTime") LocalDateTime dateTime);
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 
     List<Notification> findByMemberId(Long memberId);
 }
@@ -1,24 +1,27 @@
 package com.back.domain.notification.scheduler.job;
 
-import com.back.domain.notification.service.NotificationService;
+import com.back.domain.notification.service.NotificationRetentionService;
 import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 
 @Slf4j
+@DisallowConcurrentExecution
 public class DeleteOldNotificationJob implements Job {
 
     @Autowired
-    private NotificationService notificationService;
+    private NotificationRetentionService notificationRetentionService;
 
     @Override
     public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
         log.info("오래된 알림 삭제 진행 중...");
 
-        int deleted = notificationService.deleteOldNotifications();
+        int droppedPartitions = notificationRetentionService.maintainPartitions();
+        int deleted = notificationRetentionService.purgeReadNotifications();
 
-        log.info("{}개 오래된 알림 제거 완료.", deleted);
+        log.info("{}개 파티션 삭제, {}개 오래된 알림 제거 완료.", droppedPartitions, deleted);
     }
 }
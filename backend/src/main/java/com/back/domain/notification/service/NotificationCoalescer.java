@@ -0,0 +1,169 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.common.NotificationData;
+import com.back.domain.notification.common.NotificationType;
+import com.back.domain.notification.dto.NotificationResBody;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 짧은 시간 안에 몰리는 알림을 (회원, GroupType, 대상) 단위로 합친다.
+ * 저장은 NotificationService 가 호출한 트랜잭션에서 창(window) 안의 읽지 않은 같은 키 알림을 교체하고, 여기서는 SSE 전송만 모은다.
+ * 키의 첫 전송은 바로 보내고, 창 안에 같은 키가 다시 오면 창이 끝날 때 마지막 알림만 회원별로 모아 보낸다.
+ * window 가 0 이면 비활성 (테스트 등).
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    /**
+     * 전송할 알림 하나. targetId 는 병합 키에 쓰인다.
+     */
+    public record Push(Long memberId, Long targetId, NotificationResBody<? extends NotificationData> body) {
+    }
+
+    record Key(Long memberId, NotificationType.GroupType groupType, Long targetId) {
+        static Key of(Long memberId, NotificationType type, Long targetId) {
+            return new Key(memberId, type.getGroupType(), targetId);
+        }
+
+        static Key of(Push push) {
+            return of(push.memberId(), push.body().notificationType(), push.targetId());
+        }
+    }
+
+    private final long windowMillis;
+    // 창 안에 이미 보낸 키와 그 창이 끝나는 시각
+    private final Map<Key, Long> recent = new HashMap<>();
+    private final Map<Key, Push> pending = new LinkedHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private BiConsumer<Long, List<NotificationResBody<? extends NotificationData>>> sender;
+
+    public NotificationCoalescer(@Value("${custom.notification.coalesce-window-millis:2000}") long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public boolean isEnabled() {
+        return windowMillis > 0;
+    }
+
+    Duration getWindow() {
+        return Duration.ofMillis(windowMillis);
+    }
+
+    /**
+     * 바로 보낼 알림과 창이 끝날 때마다 모인 알림을 회원별로 sender 에 넘기기 시작한다.
+     */
+    public void start(BiConsumer<Long, List<NotificationResBody<? extends NotificationData>>> sender) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        this.sender = sender;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("notification-coalescer").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::flush, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 넘긴다. 롤백되면 (알림도 저장되지 않았으므로) 버려진다.
+     */
+    public void submitAfterCommit(List<Push> pushes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(pushes);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(pushes);
+            }
+        });
+    }
+
+    private void submit(List<Push> pushes) {
+        List<Push> immediate = new ArrayList<>();
+
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            for (Push push : pushes) {
+                Key key = Key.of(push);
+                Long windowEnd = recent.get(key);
+                if (windowEnd == null || windowEnd <= now) {
+                    recent.put(key, now + windowMillis);
+                    immediate.add(push);
+                    continue;
+                }
+
+                // 교체된 알림도 최신 순서로 보내도록 기존 키를 지우고 다시 넣는다
+                if (pending.remove(key) != null) {
+                    log.debug("알림 전송 병합: memberId={}, type={}, targetId={}",
+                            push.memberId(), push.body().notificationType(), push.targetId());
+                }
+                pending.put(key, push);
+            }
+        }
+
+        send(immediate);
+    }
+
+    private synchronized List<Push> drain() {
+        long now = System.currentTimeMillis();
+        recent.values().removeIf(windowEnd -> windowEnd <= now);
+
+        // 보낸 키는 창을 다시 시작해 이어지는 알림도 합친다
+        List<Push> drained = new ArrayList<>(pending.values());
+        pending.keySet().forEach(key -> recent.put(key, now + windowMillis));
+        pending.clear();
+        return drained;
+    }
+
+    private void flush() {
+        send(drain());
+    }
+
+    private void send(List<Push> pushes) {
+        if (pushes.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<NotificationResBody<? extends NotificationData>>> bodiesByMember = new LinkedHashMap<>();
+        for (Push push : pushes) {
+            bodiesByMember.computeIfAbsent(push.memberId(), id -> new ArrayList<>()).add(push.body());
+        }
+
+        bodiesByMember.forEach((memberId, bodies) -> {
+            try {
+                sender.accept(memberId, bodies);
+            } catch (Exception e) {
+                log.error("알림 전송 실패: memberId={}, {}건", memberId, bodies.size(), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        flush();
+    }
+}
@@ -0,0 +1,107 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.repository.NotificationPartitionRepository;
+import com.back.domain.notification.repository.NotificationPartitionRepository.Partition;
+import com.back.domain.notification.repository.NotificationQueryRepository;
+import com.back.domain.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 알림 보관 기간 관리.
+ * 보관 기간(RETENTION_MONTHS)이 지난 월 파티션은 통째로 DROP 하고,
+ * 남은 파티션의 오래된 읽은 알림은 id keyset 으로 CHUNK_SIZE 건씩 짧은 트랜잭션에서 지우며 청크 사이에 쉰다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+    private static final int RETENTION_MONTHS = 6;
+    private static final int PRECREATE_MONTHS = 2;
+    private static final int READ_RETENTION_DAYS = 3;
+    private static final int CHUNK_SIZE = 1000;
+    private static final long CHUNK_PAUSE_MILLIS = 100;
+
+    private final NotificationPartitionRepository notificationPartitionRepository;
+    private final NotificationQueryRepository notificationQueryRepository;
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 다음 달들의 파티션을 미리 만들고 보관 기간이 지난 파티션을 삭제한다.
+     * @return 삭제한 파티션 수
+     */
+    public int maintainPartitions() {
+        List<Partition> partitions = notificationPartitionRepository.findAll();
+        if (partitions.isEmpty()) {
+            log.debug("notification 테이블이 파티션되어 있지 않아 파티션 관리를 건너뜀");
+            return 0;
+        }
+
+        LocalDate lastUpperBound = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(Objects::nonNull)
+                .max(LocalDate::compareTo)
+                .orElse(YearMonth.now().atDay(1));
+
+        YearMonth until = YearMonth.now().plusMonths(PRECREATE_MONTHS);
+        for (YearMonth month = YearMonth.from(lastUpperBound); !month.isAfter(until); month = month.plusMonths(1)) {
+            notificationPartitionRepository.addMonth(month);
+            log.info("알림 파티션 생성: {}", month);
+        }
+
+        LocalDate expiredBefore = YearMonth.now().minusMonths(RETENTION_MONTHS).atDay(1);
+        int dropped = 0;
+        for (Partition partition : partitions) {
+            if (partition.upperBound() != null && !partition.upperBound().isAfter(expiredBefore)) {
+                notificationPartitionRepository.drop(partition.name());
+                dropped++;
+                log.info("알림 파티션 삭제: {} (< {})", partition.name(), partition.upperBound());
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * READ_RETENTION_DAYS 가 지난 읽은 알림을 청크 단위로 삭제한다.
+     * @return 삭제한 알림 수
+     */
+    public int purgeReadNotifications() {
+        LocalDateTime before = LocalDateTime.now().minusDays(READ_RETENTION_DAYS);
+
+        int deleted = 0;
+        long afterId = 0L;
+
+        while (true) {
+            List<Long> ids = notificationQueryRepository.findReadIdsCreatedBefore(before, afterId, CHUNK_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer count = transactionTemplate.execute(status -> notificationRepository.deleteAllByIdIn(ids));
+            deleted += count != null ? count : 0;
+
+            if (ids.size() < CHUNK_SIZE) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+
+            try {
+                Thread.sleep(CHUNK_PAUSE_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return deleted;
+    }
+}
@@ -3,28 +3,39 @@ package com.back.domain.notification.service;
 import com.back.domain.member.repository.MemberRepository;
 import com.back.domain.notification.common.NotificationData;
 import com.back.domain.notification.common.NotificationType;
+import com.back.domain.notification.dto.NotificationRequest;
 import com.back.domain.notification.dto.NotificationResBody;
 import com.back.domain.notification.dto.NotificationUnreadResBody;
 import com.back.domain.notification.entity.Notification;
 import com.back.domain.notification.mapper.NotificationDataMapper;
+import com.back.domain.notification.repository.NotificationBatchRepository;
 import com.back.domain.notification.repository.NotificationQueryRepository;
 import com.back.domain.notification.repository.NotificationRepository;
 import com.back.global.exception.ServiceException;
+import com.back.standard.util.page.CursorPayload;
+import com.back.standard.util.page.CursorSlice;
+import com.back.standard.util.page.CursorUt;
 import com.back.standard.util.page.PagePayload;
 import com.back.standard.util.page.PageUt;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -32,11 +43,23 @@ public class NotificationService {
 
     private final MemberRepository memberRepository;
     private final NotificationRepository notificationRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
     private final NotificationQueryRepository notificationQueryRepository;
     private final Map<NotificationType, NotificationDataMapper<? extends NotificationData>> mapperRegistry;
     private final Map<NotificationType.GroupType, Function<List<Long>, Map<Long, ?>>> batchLoaders;
     private final SseNotificationService sseNotificationService;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final NotificationCoalescer notificationCoalescer;
 
+    @PostConstruct
+    void startCoalescer() {
+        notificationCoalescer.start(sseNotificationService::sendNotifications);
+    }
+
+    /**
+     * 알림을 저장하고 커밋 이후 발송한다.
+     * 병합 창 안에 읽지 않은 같은 (GroupType, 대상) 알림이 있으면 새로 쌓지 않고 그 알림의 유형을 바꾼다.
+     */
     @Transactional
     public void saveAndSendNotification(Long targetMemberId, NotificationType type, Long targetId) {
         if (!memberRepository.existsById(targetMemberId)) {
@@ -44,22 +67,105 @@ public class NotificationService {
                     "멤버(%d)를 찾을 수 없습니다.".formatted(targetMemberId));
         }
 
-        Notification notification = Notification.create(type, targetId, targetMemberId);
-        Notification saved = notificationRepository.save(notification);
+        Notification notification = findCoalescible(List.of(targetMemberId))
+                .get(NotificationCoalescer.Key.of(targetMemberId, type, targetId));
+        if (notification != null) {
+            // GroupType 이 같으므로 안 읽은 수는 그대로
+            notification.replaceType(type);
+        } else {
+            notification = notificationRepository.save(Notification.create(type, targetId, targetMemberId));
+            notificationUnreadCounter.incrementAfterCommit(targetMemberId, type.getGroupType(), 1);
+        }
+
+        NotificationResBody<? extends NotificationData> dto = EntityToResBody(notification);
+
+        push(List.of(new NotificationCoalescer.Push(targetMemberId, targetId, dto)));
+    }
+
+    /**
+     * 여러 알림을 한 번에 저장하고 발송한다.
+     * 회원 확인 1회, JDBC 배치 INSERT, 대상 엔티티 일괄 로딩 후 커밋 시점에 회원별로 묶어 SSE 전송.
+     * 존재하지 않는 회원의 알림은 건너뛰고, 병합 대상(saveAndSendNotification 참고)은 새로 저장하지 않고 교체한다.
+     */
+    @Transactional
+    public void saveAndSendNotifications(List<NotificationRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        Set<Long> memberIds = requests.stream()
+                .map(NotificationRequest::targetMemberId)
+                .collect(Collectors.toSet());
+        Set<Long> existingMemberIds = new HashSet<>(memberRepository.findExistingIds(memberIds));
+
+        List<NotificationRequest> validRequests = requests.stream()
+                .filter(request -> existingMemberIds.contains(request.targetMemberId()))
+                .toList();
+        if (validRequests.size() < requests.size()) {
+            log.warn("존재하지 않는 회원의 알림 {}건을 건너뜀", requests.size() - validRequests.size());
+        }
+        if (validRequests.isEmpty()) {
+            return;
+        }
+
+        List<NotificationRequest> insertRequests = validRequests;
+        Map<NotificationCoalescer.Key, Notification> replaced = new LinkedHashMap<>();
+        if (notificationCoalescer.isEnabled()) {
+            Map<NotificationCoalescer.Key, Notification> coalescible = findCoalescible(
+                    validRequests.stream().map(NotificationRequest::targetMemberId).collect(Collectors.toSet()));
+
+            // 같은 키의 요청은 마지막 것만 남긴다
+            Map<NotificationCoalescer.Key, NotificationRequest> latestByKey = new LinkedHashMap<>();
+            for (NotificationRequest request : validRequests) {
+                NotificationCoalescer.Key key =
+                        NotificationCoalescer.Key.of(request.targetMemberId(), request.type(), request.targetId());
+                Notification existing = coalescible.get(key);
+                if (existing != null) {
+                    existing.replaceType(request.type());
+                    replaced.put(key, existing);
+                } else {
+                    latestByKey.remove(key);
+                    latestByKey.put(key, request);
+                }
+            }
+            insertRequests = new ArrayList<>(latestByKey.values());
+        }
+
+        List<Long> ids = notificationBatchRepository.insertAll(insertRequests);
+        List<Notification> inserted = notificationRepository.findAllById(ids);
+        List<Notification> notifications = Stream.concat(inserted.stream(), replaced.values().stream())
+                .sorted(Comparator.comparing(Notification::getId))
+                .toList();
 
-        NotificationResBody<?> dto = EntityToResBody(saved);
+        Map<NotificationType.GroupType, Map<Long, ?>> loadedEntities = loadEntitiesByGroup(notifications);
+        List<NotificationResBody<? extends NotificationData>> resBodyList = mapToResBody(notifications, loadedEntities);
+
+        notificationUnreadCounter.incrementAfterCommit(inserted.stream()
+                .collect(Collectors.groupingBy(
+                        Notification::getMemberId,
+                        Collectors.groupingBy(n -> n.getType().getGroupType(), Collectors.counting())
+                )));
+
+        List<NotificationCoalescer.Push> pushes = new ArrayList<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            pushes.add(new NotificationCoalescer.Push(
+                    notification.getMemberId(), notification.getTargetId(), resBodyList.get(i)));
+        }
 
-        sseNotificationService.sendNotification(targetMemberId, dto);
+        push(pushes);
     }
 
     public NotificationUnreadResBody hasUnread(Long memberId) {
-        Boolean hasUnread = notificationRepository.existsByMemberIdAndIsReadFalse(memberId);
-        return new NotificationUnreadResBody(hasUnread);
+        Map<NotificationType.GroupType, Long> countByGroup = notificationUnreadCounter.get(memberId);
+        long unreadCount = countByGroup.values().stream().mapToLong(Long::longValue).sum();
+        return new NotificationUnreadResBody(unreadCount > 0, unreadCount, countByGroup);
     }
 
     @Transactional
     public void updateAllToRead(Long memberId) {
         notificationQueryRepository.markAllAsReadByMemberId(memberId);
+        notificationUnreadCounter.evictAfterCommit(memberId);
     }
 
     @Transactional
@@ -72,7 +178,10 @@ public class NotificationService {
             throw new ServiceException(HttpStatus.FORBIDDEN, "해당 알림 읽음처리 권한이 없습니다.");
         }
 
-        notification.updateToRead();
+        if (!notification.getIsRead()) {
+            notification.updateToRead();
+            notificationUnreadCounter.incrementAfterCommit(MemberId, notification.getType().getGroupType(), -1);
+        }
     }
 
     public PagePayload<NotificationResBody<? extends NotificationData>> getNotifications(Long memberId, Pageable pageable) {
@@ -90,6 +199,18 @@ public class NotificationService {
         return PageUt.of(page);
     }
 
+    public CursorPayload<NotificationResBody<? extends NotificationData>> getNotificationsByCursor(
+            Long memberId, String cursor, int size) {
+
+        CursorSlice<Notification> slice = notificationQueryRepository.findByMemberIdByCursor(memberId, cursor, size);
+
+        Map<NotificationType.GroupType, Map<Long, ?>> loadedEntities = loadEntitiesByGroup(slice.content());
+
+        List<NotificationResBody<? extends NotificationData>> resBodyList = mapToResBody(slice.content(), loadedEntities);
+
+        return CursorUt.of(new CursorSlice<>(resBodyList, slice.size(), slice.hasNext(), slice.nextCursor()));
+    }
+
     private Map<NotificationType.GroupType, Map<Long, ?>> loadEntitiesByGroup(List<Notification> notifications) {
         Map<NotificationType.GroupType, List<Long>> groupedTargetIds = notifications.stream()
                 .collect(Collectors.groupingBy(
@@ -132,17 +253,61 @@ public class NotificationService {
         return resBodyList;
     }
 
-    private NotificationResBody<?> EntityToResBody(Notification notification) {
+    /**
+     * 병합 창 안에 생성된 회원들의 읽지 않은 알림을 (회원, GroupType, 대상) 별로 가장 최근 것 하나씩 찾는다.
+     * 같은 키의 알림이 창 안에 다시 오면 새 행을 쌓지 않고 이 알림을 교체한다. 병합이 꺼져 있으면 비어 있다.
+     * (동시에 들어온 같은 키의 첫 알림들은 각각 저장될 수 있다)
+     */
+    private Map<NotificationCoalescer.Key, Notification> findCoalescible(Collection<Long> memberIds) {
+        if (!notificationCoalescer.isEnabled()) {
+            return Map.of();
+        }
+
+        LocalDateTime since = LocalDateTime.now().minus(notificationCoalescer.getWindow());
+        Map<NotificationCoalescer.Key, Notification> latest = new HashMap<>();
+        // id 순이므로 같은 키는 마지막 것이 남는다
+        for (Notification notification : notificationQueryRepository.findUnreadCreatedSince(memberIds, since)) {
+            latest.put(NotificationCoalescer.Key.of(
+                    notification.getMemberId(), notification.getType(), notification.getTargetId()), notification);
+        }
+        return latest;
+    }
+
+    /**
+     * 커밋 이후 SSE 로 보낸다. 병합이 켜져 있으면 병합 대기열을 거친다. (알림은 이미 저장된 상태)
+     */
+    private void push(List<NotificationCoalescer.Push> pushes) {
+        if (notificationCoalescer.isEnabled()) {
+            notificationCoalescer.submitAfterCommit(pushes);
+            return;
+        }
+
+        Map<Long, List<NotificationResBody<? extends NotificationData>>> bodiesByMember = new LinkedHashMap<>();
+        for (NotificationCoalescer.Push push : pushes) {
+            bodiesByMember.computeIfAbsent(push.memberId(), k -> new ArrayList<>()).add(push.body());
+        }
+
+        afterCommit(() -> bodiesByMember.forEach(sseNotificationService::sendNotifications));
+    }
+
+    private NotificationResBody<? extends NotificationData> EntityToResBody(Notification notification) {
         Map<NotificationType.GroupType, Map<Long, ?>> loaded = loadEntitiesByGroup(List.of(notification));
         List<NotificationResBody<? extends NotificationData>> bodies = mapToResBody(List.of(notification), loaded);
         return bodies.get(0);
     }
 
-    @Transactional
-    public int deleteOldNotifications() {
-        return notificationRepository.deleteOldReadNotifications(
-                LocalDateTime.now().minusDays(3)
-        );
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
 
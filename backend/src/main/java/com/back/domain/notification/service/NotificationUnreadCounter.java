@@ -0,0 +1,188 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.common.NotificationType;
+import com.back.domain.notification.repository.NotificationQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 회원별 읽지 않은 알림 수 (Redis 해시: GroupType 별, 전체 수는 합계).
+ * 변경 시에는 키가 있을 때만 커밋 이후 증감하고, 키가 없으면 조회 시 DB 집계로 다시 채운다.
+ * 변경마다 세대 키를 올리고, DB 집계는 집계 전에 읽은 세대가 그대로이고 키가 없을 때만 저장해
+ * 집계 도중 커밋된 증감이 덮어써지지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    private static final String KEY = "notification:unread:%d";
+    private static final String GENERATION_KEY = "notification:unread:gen:%d";
+    // 증감이 유실되더라도 오래 어긋나지 않도록 짧게 유지
+    private static final Duration TTL = Duration.ofMinutes(10);
+    // 세대 키는 집계 중인 조회보다 오래 살아 있으면 된다
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+    // KEYS: 수, 세대 / ARGV: 세대 TTL(초), field1, delta1, field2, delta2, ...
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            for i = 2, #ARGV, 2 do
+                redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS: 수, 세대 / ARGV: 세대 TTL(초)
+    private static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS: 수, 세대 / ARGV: 집계 전 세대, TTL(초), field1, count1, ...
+    private static final DefaultRedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 3, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationQueryRepository notificationQueryRepository;
+
+    /**
+     * GroupType 별 읽지 않은 알림 수 (모든 GroupType 포함)
+     */
+    public Map<NotificationType.GroupType, Long> get(Long memberId) {
+        String key = KEY.formatted(memberId);
+        String generation = null;
+
+        try {
+            Map<Object, Object> cached = stringRedisTemplate.opsForHash().entries(key);
+            if (!cached.isEmpty()) {
+                Map<NotificationType.GroupType, Long> counts = new EnumMap<>(NotificationType.GroupType.class);
+                for (NotificationType.GroupType groupType : NotificationType.GroupType.values()) {
+                    Object value = cached.get(groupType.name());
+                    counts.put(groupType, value != null ? Math.max(0, Long.parseLong((String) value)) : 0L);
+                }
+                return counts;
+            }
+            generation = Objects.requireNonNullElse(
+                    stringRedisTemplate.opsForValue().get(GENERATION_KEY.formatted(memberId)), "");
+        } catch (Exception e) {
+            log.warn("미읽음 알림 수 조회 실패: memberId={}", memberId, e);
+        }
+
+        Map<NotificationType.GroupType, Long> counts = countFromDb(memberId);
+        // Redis 오류로 세대를 모르면 저장하지 않는다
+        if (generation != null) {
+            store(memberId, generation, counts);
+        }
+        return counts;
+    }
+
+    /**
+     * 커밋 이후 회원별 GroupType 미읽음 수를 증감한다.
+     */
+    public void incrementAfterCommit(Map<Long, Map<NotificationType.GroupType, Long>> deltasByMember) {
+        afterCommit(() -> deltasByMember.forEach(this::increment));
+    }
+
+    public void incrementAfterCommit(Long memberId, NotificationType.GroupType groupType, long delta) {
+        incrementAfterCommit(Map.of(memberId, Map.of(groupType, delta)));
+    }
+
+    /**
+     * 커밋 이후 키를 지워 다음 조회 시 DB 에서 다시 집계한다. (모두 읽음 처리 등)
+     */
+    public void evictAfterCommit(Long memberId) {
+        afterCommit(() -> stringRedisTemplate.execute(EVICT_SCRIPT,
+                List.of(KEY.formatted(memberId), GENERATION_KEY.formatted(memberId)),
+                String.valueOf(GENERATION_TTL.toSeconds())));
+    }
+
+    private void increment(Long memberId, Map<NotificationType.GroupType, Long> deltas) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(GENERATION_TTL.toSeconds()));
+        deltas.forEach((groupType, delta) -> {
+            args.add(groupType.name());
+            args.add(String.valueOf(delta));
+        });
+
+        stringRedisTemplate.execute(INCREMENT_SCRIPT,
+                List.of(KEY.formatted(memberId), GENERATION_KEY.formatted(memberId)), args.toArray());
+    }
+
+    private Map<NotificationType.GroupType, Long> countFromDb(Long memberId) {
+        Map<NotificationType.GroupType, Long> counts = new EnumMap<>(NotificationType.GroupType.class);
+        for (NotificationType.GroupType groupType : NotificationType.GroupType.values()) {
+            counts.put(groupType, 0L);
+        }
+        notificationQueryRepository.countUnreadByType(memberId)
+                .forEach((type, count) -> counts.merge(type.getGroupType(), count, Long::sum));
+        return counts;
+    }
+
+    /**
+     * 집계 전에 읽은 세대가 그대로이고 키가 없을 때만 저장한다. (집계 도중 증감이 있었으면 다음 조회에서 다시 집계)
+     */
+    private void store(Long memberId, String generation, Map<NotificationType.GroupType, Long> counts) {
+        List<String> args = new ArrayList<>();
+        args.add(generation);
+        args.add(String.valueOf(TTL.toSeconds()));
+        counts.forEach((groupType, count) -> {
+            args.add(groupType.name());
+            args.add(String.valueOf(count));
+        });
+
+        try {
+            stringRedisTemplate.execute(STORE_SCRIPT,
+                    List.of(KEY.formatted(memberId), GENERATION_KEY.formatted(memberId)), args.toArray());
+        } catch (Exception e) {
+            log.warn("미읽음 알림 수 저장 실패: memberId={}", memberId, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("미읽음 알림 수 갱신 실패", e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package com.back.domain.notification.service;
+
+import com.back.global.sse.SseEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원별 최근 SSE 이벤트 로그 (Redis Stream, 약 100건 유지).
+ * 스트림 id 를 SSE 이벤트 id 로 사용하므로 재연결 시 Last-Event-ID 이후 이벤트만 다시 보낼 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SseEventLog {
+
+    private static final String KEY = "sse:events:%d";
+    private static final String FIELD = "data";
+    private static final long MAX_LEN = 100;
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 이벤트를 로그에 추가하고 스트림 id 를 반환한다. 실패하면 id 없이 전송되도록 null 을 반환한다.
+     */
+    public String append(Long memberId, String payload) {
+        String key = KEY.formatted(memberId);
+        try {
+            RecordId id = stringRedisTemplate.opsForStream().add(
+                    StreamRecords.string(Map.of(FIELD, payload)).withStreamKey(key),
+                    XAddOptions.maxlen(MAX_LEN).approximateTrimming(true)
+            );
+            stringRedisTemplate.expire(key, TTL);
+            return id != null ? id.getValue() : null;
+        } catch (Exception e) {
+            log.warn("SSE 이벤트 로그 저장 실패: memberId={}", memberId, e);
+            return null;
+        }
+    }
+
+    /**
+     * lastEventId 이후의 이벤트를 순서대로 반환한다. id 형식이 아니거나 조회에 실패하면 빈 목록.
+     */
+    public List<SseEvent> readAfter(Long memberId, String lastEventId) {
+        try {
+            RecordId.of(lastEventId).getTimestamp();
+        } catch (RuntimeException e) {
+            return List.of();
+        }
+
+        try {
+            List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().range(
+                    KEY.formatted(memberId),
+                    Range.of(Range.Bound.exclusive(lastEventId), Range.Bound.unbounded()),
+                    Limit.limit().count((int) MAX_LEN)
+            );
+            if (records == null) {
+                return List.of();
+            }
+
+            return records.stream()
+                    .map(record -> new SseEvent(record.getId().getValue(), (String) record.getValue().get(FIELD)))
+                    .toList();
+        } catch (Exception e) {
+            log.warn("SSE 이벤트 로그 조회 실패: memberId={}, lastEventId={}", memberId, lastEventId, e);
+            return List.of();
+        }
+    }
+}
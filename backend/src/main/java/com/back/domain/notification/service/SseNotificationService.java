@@ -2,15 +2,17 @@ package com.back.domain.notification.service;
 
 import com.back.domain.notification.common.NotificationData;
 import com.back.domain.notification.dto.NotificationResBody;
+import com.back.domain.notification.pubsub.publisher.SseNotificationPublisher;
+import com.back.domain.notification.pubsub.subscriber.SseNotificationSubscriber;
 import com.back.global.sse.EmitterRepository;
+import com.back.global.sse.SseConnection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.util.Map;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -18,63 +20,57 @@ import java.util.Map;
 public class SseNotificationService {
 
     private final EmitterRepository emitterRepository;
+    private final SseNotificationPublisher sseNotificationPublisher;
+    private final SseNotificationSubscriber sseNotificationSubscriber;
+    private final SseEventLog sseEventLog;
     private static final Long TIMEOUT = 60L * 1000 * 60; // 1시간
 
 
-    public SseEmitter subscribe(Long memberId) {
+    /**
+     * lastEventId 가 있으면 그 이후 놓친 알림을 이벤트 로그에서 먼저 보내고 실시간 알림을 이어서 보낸다.
+     */
+    public SseEmitter subscribe(Long memberId, String lastEventId) {
         String emitterId = memberId + "_" + System.currentTimeMillis();
-        SseEmitter emitter = createAndSaveEmitter(memberId, emitterId);
+        boolean resuming = lastEventId != null && !lastEventId.isBlank();
+        SseConnection connection = createAndSaveConnection(memberId, emitterId, resuming);
 
-        sendInitialEvent(memberId, emitterId, emitter);
-        registerEmitterCallbacks(memberId, emitterId, emitter);
+        sendInitialEvent(connection);
+        if (resuming) {
+            connection.replayAndResume(sseEventLog.readAfter(memberId, lastEventId));
+        }
+        registerEmitterCallbacks(memberId, emitterId, connection.getEmitter());
 
-        return emitter;
+        return connection.getEmitter();
     }
 
-    private SseEmitter createAndSaveEmitter(Long memberId, String emitterId) {
-        SseEmitter emitter = new SseEmitter(TIMEOUT);
-        emitterRepository.save(memberId, emitterId, emitter);
-        return emitter;
+    private SseConnection createAndSaveConnection(Long memberId, String emitterId, boolean holding) {
+        SseConnection connection = emitterRepository.save(memberId, emitterId, new SseEmitter(TIMEOUT), holding);
+        sseNotificationSubscriber.register(memberId);
+        return connection;
     }
 
-    private void sendInitialEvent(Long memberId, String emitterId, SseEmitter emitter) {
-        try {
-            emitter.send(SseEmitter.event()
-                    .id(emitterId)
-                    .data("connected"));
-        } catch (Exception e) {
-            log.error("SSE 발행 중 예외 발생: memberId={}, emitterId={}, error={}",
-                    memberId, emitterId, e.getMessage(), e);
-        }
+    // 초기 이벤트에는 id 를 붙이지 않아 클라이언트의 Last-Event-ID 가 유지되게 한다
+    private void sendInitialEvent(SseConnection connection) {
+        connection.enqueue(SseEmitter.event()
+                .data("connected"));
     }
 
     private void registerEmitterCallbacks(Long memberId, String emitterId, SseEmitter emitter) {
-        emitter.onCompletion(() -> emitterRepository.deleteEmitter(memberId, emitterId));
-        emitter.onTimeout(() -> emitterRepository.deleteEmitter(memberId, emitterId));
-        emitter.onError(e -> emitterRepository.deleteEmitter(memberId, emitterId));
+        emitter.onCompletion(() -> sseNotificationSubscriber.removeEmitter(memberId, emitterId));
+        emitter.onTimeout(() -> sseNotificationSubscriber.removeEmitter(memberId, emitterId));
+        emitter.onError(e -> sseNotificationSubscriber.removeEmitter(memberId, emitterId));
     }
 
     @Async("notificationExecutor")
     public void sendNotification(Long targetMemberId, NotificationResBody<? extends NotificationData> message) {
-        Map<String, SseEmitter> emitters = emitterRepository.findEmittersByMemberId(targetMemberId);
+        sseNotificationPublisher.publish(targetMemberId, List.of(message));
+    }
 
-        emitters.forEach((emitterId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .id(emitterId)
-                        .data(message));
-                log.debug("알림 전송 성공: memberId={}, emitterId={}", targetMemberId, emitterId);
-            } catch (IOException e) {
-                // 클라이언트 연결 끊김 - 정상적인 상황
-                log.debug("클라이언트 연결 끊김 감지 (memberId={}, emitterId={}): {}",
-                        targetMemberId, emitterId, e.getMessage());
-                emitterRepository.deleteEmitter(targetMemberId, emitterId);
-            } catch (Exception e) {
-                // 기타 예외 - 예상치 못한 에러
-                log.error("알림 전송 중 예외 발생 (memberId={}, emitterId={})",
-                        targetMemberId, emitterId, e);
-                emitterRepository.deleteEmitter(targetMemberId, emitterId);
-            }
-        });
+    /**
+     * 한 회원의 여러 알림을 발행 1회로 전송 (회원 emitter 가 있는 서버가 구독 중)
+     */
+    @Async("notificationExecutor")
+    public void sendNotifications(Long targetMemberId, List<NotificationResBody<? extends NotificationData>> messages) {
+        sseNotificationPublisher.publish(targetMemberId, messages);
     }
 }
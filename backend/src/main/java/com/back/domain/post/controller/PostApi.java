@@ -9,14 +9,18 @@ import com.back.domain.post.dto.res.PostListResBody;
 import com.back.global.annotations.ValidateImages;
 import com.back.global.rsData.RsData;
 import com.back.global.security.SecurityUser;
+import com.back.standard.util.page.CursorPayload;
+import com.back.standard.util.page.PageCountMode;
 import com.back.standard.util.page.PagePayload;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -24,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -35,7 +40,7 @@ public interface PostApi {
 		@RequestPart(value = "images", required = false) List<MultipartFile> images,
 		@AuthenticationPrincipal SecurityUser user);
 
-	@Operation(summary = "게시글 목록 조회 API", description = "게시글 목록을 조회합니다.")
+	@Operation(summary = "게시글 목록 조회 API", description = "게시글 목록을 조회합니다. 상위 카테고리·지역을 선택하면 하위 항목까지 포함합니다.")
 	ResponseEntity<RsData<PagePayload<PostListResBody>>> getPostList(
 		@AuthenticationPrincipal SecurityUser user,
 		@ParameterObject
@@ -43,7 +48,25 @@ public interface PostApi {
 		Pageable pageable,
 		@RequestParam(required = false) String keyword,
 		@RequestParam(required = false) List<Long> categoryIds,
-		@RequestParam(required = false) List<Long> regionIds
+		@RequestParam(required = false) List<Long> regionIds,
+		@Parameter(description = "이용 희망 시작일 (yyyy-MM-dd, availableTo 와 함께 입력)")
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+		@Parameter(description = "이용 희망 종료일 (yyyy-MM-dd, 해당 기간에 예약이 겹치는 게시글은 제외)")
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo,
+		@Parameter(description = "전체 개수 산출 방식 (EXACT: 매번 COUNT (기본값), CACHED: 30초 캐시, NONE: COUNT 생략 후 hasNext 만 제공)")
+		@RequestParam(defaultValue = "EXACT") PageCountMode countMode
+	);
+
+	@Operation(summary = "게시글 목록 커서 조회 API", description = "무한 스크롤용으로 커서 기반 게시글 목록을 조회합니다.")
+	ResponseEntity<RsData<CursorPayload<PostListResBody>>> getPostListByCursor(
+		@AuthenticationPrincipal SecurityUser user,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "30") int size,
+		@RequestParam(required = false) String keyword,
+		@RequestParam(required = false) List<Long> categoryIds,
+		@RequestParam(required = false) List<Long> regionIds,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo
 	);
 
 	@Operation(summary = "게시글 상세 조회 API", description = "특정 게시글의 상세 정보를 조회합니다.")
@@ -65,6 +88,13 @@ public interface PostApi {
 		Pageable pageable
 	);
 
+	@Operation(summary = "내 게시글 목록 커서 조회 API", description = "로그인한 사용자의 게시글 목록을 커서 기반으로 조회합니다.")
+	ResponseEntity<RsData<CursorPayload<PostListResBody>>> getMyPostListByCursor(
+		@AuthenticationPrincipal SecurityUser user,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "30") int size
+	);
+
 	@Operation(summary = "즐겨찾기 토글 API", description = "특정 게시글에 대해 즐겨찾기를 설정 및 해제합니다.")
 	ResponseEntity<RsData<Boolean>> toggleFavorite(
 		@PathVariable Long postId,
@@ -79,6 +109,13 @@ public interface PostApi {
 		Pageable pageable
 	);
 
+	@Operation(summary = "즐겨찾기 게시글 목록 커서 조회 API", description = "로그인한 사용자의 즐겨찾기한 게시글 목록을 커서 기반으로 조회합니다.")
+	ResponseEntity<RsData<CursorPayload<PostListResBody>>> getFavoritePostsByCursor(
+		@AuthenticationPrincipal SecurityUser user,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "30") int size
+	);
+
 	@Operation(summary = "게시글 수정 API", description = "특정 게시글의 정보를 수정합니다.")
 	ResponseEntity<RsData<Void>> updatePost(
 		@PathVariable Long id,
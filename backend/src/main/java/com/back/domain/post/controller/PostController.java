@@ -1,5 +1,6 @@
 package com.back.domain.post.controller;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -9,6 +10,7 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -37,6 +39,8 @@ import com.back.domain.review.service.ReviewSummaryService;
 import com.back.global.annotations.ValidateImages;
 import com.back.global.rsData.RsData;
 import com.back.global.security.SecurityUser;
+import com.back.standard.util.page.CursorPayload;
+import com.back.standard.util.page.PageCountMode;
 import com.back.standard.util.page.PagePayload;
 
 import jakarta.validation.Valid;
@@ -70,11 +74,31 @@ public class PostController implements PostApi {
 		@ParameterObject @PageableDefault(size = 30, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
 		@RequestParam(required = false) String keyword,
 		@RequestParam(required = false) List<Long> categoryIds,
-		@RequestParam(required = false) List<Long> regionIds) {
+		@RequestParam(required = false) List<Long> regionIds,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo,
+		@RequestParam(defaultValue = "EXACT") PageCountMode countMode) {
 
 		Long memberId = (user != null) ? user.getId() : null;
 		PagePayload<PostListResBody> body = this.postService.getPostList(pageable, keyword, categoryIds, regionIds,
-			memberId);
+			availableFrom, availableTo, memberId, countMode);
+		return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "성공", body));
+	}
+
+	@GetMapping("/cursor")
+	public ResponseEntity<RsData<CursorPayload<PostListResBody>>> getPostListByCursor(
+		@AuthenticationPrincipal SecurityUser user,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "30") int size,
+		@RequestParam(required = false) String keyword,
+		@RequestParam(required = false) List<Long> categoryIds,
+		@RequestParam(required = false) List<Long> regionIds,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo) {
+
+		Long memberId = (user != null) ? user.getId() : null;
+		CursorPayload<PostListResBody> body = this.postService.getPostListByCursor(cursor, size, keyword, categoryIds,
+			regionIds, availableFrom, availableTo, memberId);
 		return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "성공", body));
 	}
 
@@ -107,6 +131,15 @@ public class PostController implements PostApi {
 		return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "성공", body));
 	}
 
+	@GetMapping("/my/cursor")
+	public ResponseEntity<RsData<CursorPayload<PostListResBody>>> getMyPostListByCursor(
+		@AuthenticationPrincipal SecurityUser user,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "30") int size) {
+		CursorPayload<PostListResBody> body = this.postService.getMyPostsByCursor(user.getId(), cursor, size);
+		return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "성공", body));
+	}
+
 	@PostMapping("/favorites/{id}")
 	public ResponseEntity<RsData<Boolean>> toggleFavorite(
 		@PathVariable("id") Long postId,
@@ -127,6 +160,15 @@ public class PostController implements PostApi {
 		return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "성공", body));
 	}
 
+	@GetMapping("/favorites/cursor")
+	public ResponseEntity<RsData<CursorPayload<PostListResBody>>> getFavoritePostsByCursor(
+		@AuthenticationPrincipal SecurityUser user,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "30") int size) {
+		CursorPayload<PostListResBody> body = this.postService.getFavoritePostsByCursor(user.getId(), cursor, size);
+		return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "성공", body));
+	}
+
 	@PutMapping("/{id}")
 	public ResponseEntity<RsData<Void>> updatePost(
 		@PathVariable Long id,
@@ -0,0 +1,17 @@
+package com.back.domain.post.dto.req;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 목록 필터 조건. 카테고리·지역 ID 는 하위 항목까지 확장된 상태로 전달한다.
+ * availableFrom/availableTo 가 주어지면 해당 기간에 예약이 겹치지 않는 게시글만 조회한다.
+ */
+public record PostListCondition(
+	String keyword,
+	List<Long> categoryIds,
+	List<Long> regionIds,
+	LocalDateTime availableFrom,
+	LocalDateTime availableTo
+) {
+}
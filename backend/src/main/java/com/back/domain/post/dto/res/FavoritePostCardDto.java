@@ -0,0 +1,7 @@
+package com.back.domain.post.dto.res;
+
+public record FavoritePostCardDto(
+	Long favoriteId,
+	PostCardDto post
+) {
+}
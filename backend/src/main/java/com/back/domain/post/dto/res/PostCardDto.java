@@ -0,0 +1,25 @@
+package com.back.domain.post.dto.res;
+
+import java.time.LocalDateTime;
+
+import com.back.domain.post.common.ReceiveMethod;
+import com.back.domain.post.common.ReturnMethod;
+
+/**
+ * 게시글 카드(목록) 렌더링에 필요한 컬럼만 조회하는 projection
+ */
+public record PostCardDto(
+	Long id,
+	String title,
+	String primaryImageUrl,
+	Long categoryId,
+	ReceiveMethod receiveMethod,
+	ReturnMethod returnMethod,
+	LocalDateTime createdAt,
+	Long authorId,
+	String authorNickname,
+	Integer fee,
+	Integer deposit,
+	Boolean isBanned
+) {
+}
@@ -59,4 +59,16 @@ public record PostDetailResBody(
 			post.getIsBanned()
 		);
 	}
+
+	public PostDetailResBody withFavorite(boolean isFavorite) {
+		return new PostDetailResBody(id, title, content, categoryId, regionIds, returnAddress1, returnAddress2,
+			receiveMethod, returnMethod, deposit, fee, options, images, createdAt, modifiedAt, author, isFavorite,
+			isBanned);
+	}
+
+	public PostDetailResBody withUrls(List<PostImageResBody> images, String profileImgUrl) {
+		return new PostDetailResBody(id, title, content, categoryId, regionIds, returnAddress1, returnAddress2,
+			receiveMethod, returnMethod, deposit, fee, options, images, createdAt, modifiedAt,
+			new PostAuthorDto(author.id(), author.nickname(), profileImgUrl), isFavorite, isBanned);
+	}
 }
@@ -47,4 +47,24 @@ public record PostListResBody(
 
 		);
 	}
-}
\ No newline at end of file
+
+	public static PostListResBody of(PostCardDto card, List<Long> regionIds, boolean isFavorite,
+		String thumbnailImageUrl) {
+		return new PostListResBody(
+			card.id(),
+			card.title(),
+			thumbnailImageUrl,
+			card.categoryId(),
+			regionIds,
+			card.receiveMethod(),
+			card.returnMethod(),
+			card.createdAt(),
+			card.authorId(),
+			card.authorNickname(),
+			card.fee(),
+			card.deposit(),
+			isFavorite,
+			card.isBanned()
+		);
+	}
+}
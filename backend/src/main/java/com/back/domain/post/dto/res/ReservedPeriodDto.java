@@ -0,0 +1,9 @@
+package com.back.domain.post.dto.res;
+
+import java.time.LocalDateTime;
+
+public record ReservedPeriodDto(
+	LocalDateTime startAt,
+	LocalDateTime endAt
+) {
+}
@@ -0,0 +1,35 @@
+package com.back.domain.post.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 제목 검색용 역색인 (2-gram -> 게시글). 쓰기는 PostTitleNgramRepository(JDBC)로만 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_title_ngram",
+	uniqueConstraints = @UniqueConstraint(name = "uk_post_title_ngram_gram_post", columnNames = {"gram", "post_id"}),
+	indexes = @Index(name = "idx_post_title_ngram_post", columnList = "post_id"))
+public class PostTitleNgram {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "post_id", nullable = false)
+	private Long postId;
+
+	@Column(name = "gram", nullable = false, length = 2)
+	private String gram;
+}
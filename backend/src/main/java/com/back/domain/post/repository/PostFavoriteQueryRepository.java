@@ -1,15 +1,24 @@
 package com.back.domain.post.repository;
 
+import static com.back.domain.member.entity.QMember.*;
 import static com.back.domain.post.entity.QPost.*;
 import static com.back.domain.post.entity.QPostFavorite.*;
-import static com.back.domain.post.entity.QPostImage.*;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import com.back.domain.post.dto.res.FavoritePostCardDto;
 import com.back.domain.post.entity.PostFavorite;
 import com.back.global.queryDsl.CustomQuerydslRepositorySupport;
+import com.back.global.queryDsl.Keyset;
+import com.back.standard.util.page.CursorSlice;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 
 @Repository
 public class PostFavoriteQueryRepository extends CustomQuerydslRepositorySupport {
@@ -17,16 +26,15 @@ public class PostFavoriteQueryRepository extends CustomQuerydslRepositorySupport
 		super(PostFavorite.class);
 	}
 
-	public Page<PostFavorite> findFavoritePosts(long memberId, Pageable pageable) {
+	public Page<FavoritePostCardDto> findFavoritePostCards(long memberId, Pageable pageable) {
 		return applyPagination(
 			pageable,
 			contentQuery -> contentQuery
-				.selectFrom(postFavorite)
-				.join(postFavorite.post, post).fetchJoin()
-				.leftJoin(post.images, postImage).fetchJoin()
-				.where(postFavorite.member.id
-					.eq(memberId))
-				.distinct(),
+				.select(favoritePostCard())
+				.from(postFavorite)
+				.join(postFavorite.post, post)
+				.join(post.author, member)
+				.where(postFavorite.member.id.eq(memberId)),
 
 			countQuery -> countQuery
 				.select(postFavorite.count())
@@ -37,4 +45,35 @@ public class PostFavoriteQueryRepository extends CustomQuerydslRepositorySupport
 
 	}
 
+	public CursorSlice<FavoritePostCardDto> findFavoritePostCardsByCursor(long memberId, String cursor, int size) {
+		return applyCursorPagination(cursor, size,
+			Keyset.byIdDesc(postFavorite.id, FavoritePostCardDto::favoriteId),
+			query -> query
+				.select(favoritePostCard())
+				.from(postFavorite)
+				.join(postFavorite.post, post)
+				.join(post.author, member)
+				.where(postFavorite.member.id.eq(memberId)));
+	}
+
+	private ConstructorExpression<FavoritePostCardDto> favoritePostCard() {
+		return Projections.constructor(FavoritePostCardDto.class, postFavorite.id, PostQueryRepository.postCard());
+	}
+
+	/**
+	 * 회원이 즐겨찾기한 게시글 ID 중 주어진 목록에 포함된 것만 한 번에 조회
+	 */
+	public Set<Long> findFavoritePostIds(long memberId, Collection<Long> postIds) {
+		if (postIds == null || postIds.isEmpty()) {
+			return Set.of();
+		}
+
+		return new HashSet<>(
+			select(postFavorite.post.id)
+				.from(postFavorite)
+				.where(postFavorite.member.id.eq(memberId), postFavorite.post.id.in(postIds))
+				.fetch()
+		);
+	}
+
 }
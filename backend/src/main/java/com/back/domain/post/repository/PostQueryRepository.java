@@ -2,24 +2,35 @@ package com.back.domain.post.repository;
 
 import com.back.domain.post.common.EmbeddingStatus;
 import com.back.domain.post.dto.req.PostEmbeddingDto;
+import com.back.domain.post.dto.req.PostListCondition;
+import com.back.domain.post.dto.res.PostCardDto;
+import com.back.domain.post.dto.res.ReservedPeriodDto;
 import com.back.domain.post.entity.Post;
+import com.back.domain.post.entity.QPostImage;
 import com.back.domain.reservation.common.ReservationStatus;
-import com.back.domain.reservation.entity.Reservation;
 import com.back.global.queryDsl.CustomQuerydslRepositorySupport;
+import com.back.global.queryDsl.Keyset;
+import com.back.standard.util.page.CursorSlice;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 import static com.back.domain.member.entity.QMember.member;
 import static com.back.domain.post.entity.QPost.post;
 import static com.back.domain.post.entity.QPostRegion.postRegion;
-import static com.back.domain.region.entity.QRegion.region;
 import static com.back.domain.reservation.entity.QReservation.reservation;
 
 @Repository
@@ -29,67 +40,166 @@ public class PostQueryRepository extends CustomQuerydslRepositorySupport {
 		super(Post.class);
 	}
 
-	public Page<Post> findFilteredPosts(String keyword, List<Long> categoryId, List<Long> regionIds,
+	private static final QPostImage primaryImage = new QPostImage("primaryImage");
+
+	/**
+	 * 필터링된 게시글 카드 페이지. 전체 개수는 호출 측이 공급한다 (COUNT 캐시 재사용 목적).
+	 */
+	public Page<PostCardDto> findPostCards(PostListCondition condition, Pageable pageable, LongSupplier totalCount) {
+		return applyPagination(PostTitleSearch.withoutRelevanceSort(pageable),
+			contentQuery -> postCardsQuery(contentQuery, condition, pageable), totalCount);
+	}
+
+	/**
+	 * COUNT 없이 다음 페이지 존재 여부만 판단하는 게시글 카드 조회
+	 */
+	public Slice<PostCardDto> findPostCardSlice(PostListCondition condition, Pageable pageable) {
+		return applySlicePagination(PostTitleSearch.withoutRelevanceSort(pageable),
+			contentQuery -> postCardsQuery(contentQuery, condition, pageable));
+	}
+
+	public long countPostCards(PostListCondition condition) {
+		Long count = select(post.count())
+			.from(post)
+			.where(filter(condition))
+			.fetchOne();
+
+		return count != null ? count : 0L;
+	}
+
+	private JPAQuery<PostCardDto> postCardsQuery(JPAQueryFactory queryFactory, PostListCondition condition,
 		Pageable pageable) {
-		return applyPagination(pageable, contentQuery -> contentQuery.selectFrom(post)
-			.leftJoin(post.postRegions, postRegion)
-			.leftJoin(postRegion.region, region)
-			.join(post.author, member)
-			.fetchJoin()
-			.where(containsKeyword(keyword), inCategoryIds(categoryId), inRegionIds(regionIds),
-				post.isBanned.isFalse()), countQuery -> countQuery.select(post.count())
+		JPAQuery<PostCardDto> query = queryFactory.select(postCard())
 			.from(post)
-			.leftJoin(post.postRegions, postRegion)
-			.where(containsKeyword(keyword), inCategoryIds(categoryId), inRegionIds(regionIds),
-				post.isBanned.isFalse()));
+			.join(post.author, member)
+			.where(filter(condition));
+
+		String keyword = condition.keyword();
+		boolean byRelevance = PostTitleSearch.isRelevanceSort(pageable) && keyword != null && !keyword.isBlank();
+
+		return byRelevance ? query.orderBy(PostTitleSearch.relevanceOrder(post.id, post.title, keyword)) : query;
+	}
+
+	public CursorSlice<PostCardDto> findPostCardsByCursor(PostListCondition condition, String cursor, int size) {
+		return applyCursorPagination(cursor, size, Keyset.byIdDesc(post.id, PostCardDto::id),
+			query -> query.select(postCard())
+				.from(post)
+				.join(post.author, member)
+				.where(filter(condition)));
+	}
+
+	private BooleanExpression[] filter(PostListCondition condition) {
+		return new BooleanExpression[] {
+			containsKeyword(condition.keyword()),
+			inCategoryIds(condition.categoryIds()),
+			inRegionIds(condition.regionIds()),
+			availableBetween(condition.availableFrom(), condition.availableTo()),
+			post.isBanned.isFalse()
+		};
+	}
+
+	/**
+	 * 카드 렌더링용 projection. 대표 이미지는 상관 서브쿼리로 함께 가져와 이미지 컬렉션 로딩을 없앤다.
+	 */
+	static ConstructorExpression<PostCardDto> postCard() {
+		return Projections.constructor(PostCardDto.class,
+			post.id,
+			post.title,
+			JPAExpressions.select(primaryImage.imageUrl.min())
+				.from(primaryImage)
+				.where(primaryImage.post.id.eq(post.id), primaryImage.isPrimary.isTrue()),
+			post.category.id,
+			post.receiveMethod,
+			post.returnMethod,
+			post.createdAt,
+			member.id,
+			member.nickname,
+			post.fee,
+			post.deposit,
+			post.isBanned);
+	}
+
+	/**
+	 * 게시글별 지역 ID 목록을 한 번에 조회
+	 */
+	public Map<Long, List<Long>> findRegionIdsByPostIds(Collection<Long> postIds) {
+		if (postIds == null || postIds.isEmpty()) {
+			return Map.of();
+		}
+
+		return getQueryFactory().select(postRegion.post.id, postRegion.region.id)
+			.from(postRegion)
+			.where(postRegion.post.id.in(postIds))
+			.fetch()
+			.stream()
+			.collect(Collectors.groupingBy(tuple -> tuple.get(postRegion.post.id),
+				Collectors.mapping(tuple -> tuple.get(postRegion.region.id), Collectors.toList())));
 	}
 
 	private BooleanExpression containsKeyword(String keyword) {
-		return keyword != null ? post.title.containsIgnoreCase(keyword) : null;
+		return PostTitleSearch.titleMatches(post.id, post.title, keyword);
 	}
 
 	private BooleanExpression inCategoryIds(List<Long> categoryIds) {
 		return (categoryIds == null || categoryIds.isEmpty()) ? null : post.category.id.in(categoryIds);
 	}
 
+	/**
+	 * 기간이 겹치는 활성 예약이 없는 게시글만 (예약 중복 검사와 같은 상태 기준).
+	 * [from, to) 는 날짜 경계이고, 예약이 점유하는 날짜(ReservationDaySlot 참고)가 하루라도 걸치면 제외한다.
+	 * 자정에 끝나는 예약은 그 날짜를 점유하지 않으므로 from 자정에 끝나는 예약은 겹치지 않는다.
+	 * reservation(post_id, reservation_start_at, reservation_end_at) 인덱스로 게시글별 범위 탐색한다.
+	 */
+	private BooleanExpression availableBetween(LocalDateTime from, LocalDateTime to) {
+		if (from == null || to == null) {
+			return null;
+		}
+
+		return JPAExpressions.selectOne()
+			.from(reservation)
+			.where(reservation.post.id.eq(post.id),
+				reservation.reservationStartAt.lt(to),
+				reservation.reservationEndAt.gt(from).or(reservation.reservationStartAt.goe(from)),
+				reservation.status.notIn(ReservationStatus.OVERLAP_EXCLUDED_STATUSES))
+			.notExists();
+	}
+
 	private BooleanExpression inRegionIds(List<Long> regionIds) {
-		return (regionIds == null || regionIds.isEmpty()) ? null : postRegion.region.id.in(regionIds);
+		// 조인 대신 서브쿼리로 걸러 여러 지역에 걸친 게시글이 중복 조회되지 않도록 함
+		return (regionIds == null || regionIds.isEmpty()) ? null : post.id.in(
+			JPAExpressions.select(postRegion.post.id).from(postRegion).where(postRegion.region.id.in(regionIds)));
 	}
 
-	public Page<Post> findMyPost(Long memberId, Pageable pageable) {
+	public Page<PostCardDto> findMyPostCards(Long memberId, Pageable pageable) {
 
 		return applyPagination(pageable,
-			contentQuery -> contentQuery.selectFrom(post).where(post.author.id.eq(memberId)),
+			contentQuery -> contentQuery.select(postCard())
+				.from(post)
+				.join(post.author, member)
+				.where(post.author.id.eq(memberId)),
 			countQuery -> countQuery.select(post.count()).from(post).where(post.author.id.eq(memberId)));
 	}
 
-	public List<LocalDateTime> findReservedDatesFromToday(Long postId) {
-		LocalDateTime today = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
+	public CursorSlice<PostCardDto> findMyPostCardsByCursor(Long memberId, String cursor, int size) {
+		return applyCursorPagination(cursor, size, Keyset.byIdDesc(post.id, PostCardDto::id),
+			query -> query.select(postCard())
+				.from(post)
+				.join(post.author, member)
+				.where(post.author.id.eq(memberId)));
+	}
 
+	/**
+	 * 예약 달력 재생성용: 기간을 점유 중인 예약의 시작/종료 일시만 조회
+	 */
+	public List<ReservedPeriodDto> findReservedPeriodsFrom(Long postId, LocalDateTime from) {
 		List<ReservationStatus> excludedStatuses = List.of(ReservationStatus.PENDING_APPROVAL,
 			ReservationStatus.CANCELLED, ReservationStatus.REJECTED);
 
-		List<Reservation> reservations = select(reservation).from(reservation)
-			.where(reservation.post.id.eq(postId), reservation.reservationEndAt.goe(today),
+		return select(Projections.constructor(ReservedPeriodDto.class, reservation.reservationStartAt,
+			reservation.reservationEndAt)).from(reservation)
+			.where(reservation.post.id.eq(postId), reservation.reservationEndAt.goe(from),
 				reservation.status.notIn(excludedStatuses))
 			.fetch();
-
-		Set<LocalDateTime> allReservedDates = new HashSet<>();
-
-		for (Reservation r : reservations) {
-			LocalDateTime start = r.getReservationStartAt().withHour(0).withMinute(0).withSecond(0).withNano(0);
-			LocalDateTime end = r.getReservationEndAt().withHour(0).withMinute(0).withSecond(0).withNano(0);
-
-			LocalDateTime current = start;
-			while (!current.isAfter(end)) {
-				if (!current.isBefore(today)) {
-					allReservedDates.add(current);
-				}
-				current = current.plusDays(1);
-			}
-		}
-
-		return allReservedDates.stream().sorted().collect(Collectors.toList());
 	}
 
 	/**
@@ -1,24 +1,10 @@
 package com.back.domain.post.repository;
 
-import jakarta.persistence.LockModeType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.back.domain.post.entity.Post;
 
-import java.util.Optional;
-
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
-
-	Page<Post> findByIsBannedFalse(Pageable pageable);
-
-	@Lock(LockModeType.PESSIMISTIC_WRITE)
-	@Query("SELECT p FROM Post p WHERE p.id = :postId")
-	Optional<Post> findByIdWithLock(@Param("postId") Long postId);
 }
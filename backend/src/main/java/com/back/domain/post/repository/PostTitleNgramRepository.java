@@ -0,0 +1,42 @@
+package com.back.domain.post.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.back.standard.util.ngram.NgramUt;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class PostTitleNgramRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 게시글 제목의 n-gram 색인을 교체 (호출한 트랜잭션에 참여)
+	 */
+	public void reindex(Long postId, String title) {
+		deleteByPostId(postId);
+
+		Set<String> grams = NgramUt.bigrams(title);
+		if (grams.isEmpty()) {
+			return;
+		}
+
+		List<Object[]> args = new ArrayList<>(grams.size());
+		for (String gram : grams) {
+			args.add(new Object[] {postId, gram});
+		}
+
+		jdbcTemplate.batchUpdate("INSERT IGNORE INTO post_title_ngram (post_id, gram) VALUES (?, ?)", args);
+	}
+
+	public void deleteByPostId(Long postId) {
+		jdbcTemplate.update("DELETE FROM post_title_ngram WHERE post_id = ?", postId);
+	}
+}
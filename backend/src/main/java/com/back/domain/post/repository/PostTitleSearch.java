@@ -0,0 +1,89 @@
+package com.back.domain.post.repository;
+
+import static com.back.domain.post.entity.QPostTitleNgram.postTitleNgram;
+
+import java.util.Set;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.back.standard.util.ngram.NgramUt;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
+
+/**
+ * post_title_ngram 역색인을 이용한 제목 검색 조건.
+ * 게시글 목록과 예약 목록(게시글 제목 검색)이 같은 색인을 사용한다.
+ */
+public final class PostTitleSearch {
+
+	public static final String RELEVANCE = "relevance";
+
+	// 긴 검색어는 앞쪽 gram 일부로 후보를 좁히고 나머지는 LIKE 로 확인
+	private static final int MAX_GRAMS = 8;
+
+	private PostTitleSearch() {
+	}
+
+	/**
+	 * 검색어의 모든 2-gram 을 가진 게시글로 후보를 좁힌 뒤 LIKE 로 원래 부분 일치 조건을 확인.
+	 * 1글자 검색어는 gram 이 없으므로 LIKE 만 사용한다.
+	 */
+	public static BooleanExpression titleMatches(NumberPath<Long> postId, StringPath title, String keyword) {
+		if (keyword == null || keyword.isBlank()) {
+			return null;
+		}
+
+		String trimmed = keyword.trim();
+		BooleanExpression condition = title.containsIgnoreCase(trimmed);
+
+		Set<String> grams = NgramUt.bigrams(trimmed);
+		int used = 0;
+		for (String gram : grams) {
+			if (used++ == MAX_GRAMS) {
+				break;
+			}
+			// gram 마다 독립된 IN 서브쿼리로 두어 옵티마이저가 semi-join 으로 색인부터 탐색할 수 있게 함
+			condition = postId.in(
+				JPAExpressions.select(postTitleNgram.postId)
+					.from(postTitleNgram)
+					.where(postTitleNgram.gram.eq(gram))
+			).and(condition);
+		}
+
+		return condition;
+	}
+
+	/**
+	 * 관련도 정렬: 제목이 검색어로 시작하는 글 우선, 이후 제목이 짧을수록(검색어 비중이 클수록) 우선
+	 */
+	public static OrderSpecifier<?>[] relevanceOrder(NumberPath<Long> postId, StringPath title, String keyword) {
+		NumberExpression<Integer> prefixRank = new CaseBuilder()
+			.when(title.startsWithIgnoreCase(keyword.trim())).then(0)
+			.otherwise(1);
+
+		return new OrderSpecifier<?>[] {prefixRank.asc(), title.length().asc(), postId.desc()};
+	}
+
+	public static boolean isRelevanceSort(Pageable pageable) {
+		return pageable.getSort().getOrderFor(RELEVANCE) != null;
+	}
+
+	/**
+	 * relevance 는 엔티티 속성이 아니므로 Querydsl 정렬에 넘기기 전에 제거
+	 */
+	public static Pageable withoutRelevanceSort(Pageable pageable) {
+		if (!isRelevanceSort(pageable)) {
+			return pageable;
+		}
+
+		Sort sort = Sort.by(pageable.getSort().stream().filter(o -> !RELEVANCE.equals(o.getProperty())).toList());
+		return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+	}
+}
@@ -0,0 +1,218 @@
+package com.back.domain.post.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.back.domain.post.dto.res.ReservedPeriodDto;
+import com.back.domain.post.repository.PostQueryRepository;
+import com.back.domain.reservation.entity.ReservationDaySlot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글별 예약 달력을 Redis 비트맵(하루 1비트)으로 관리한다.
+ * 비트 n 은 BASE_DATE + n 일을 의미하고, 비트 0 은 비트맵이 DB 로부터 생성 완료되었음을 나타낸다.
+ * 조회 시 비트맵이 없으면 DB 에서 한 번 재생성하고, 예약 상태 변경 시 커밋 이후 증분 반영한다.
+ * 변경마다 세대 키(post:calendar:gen:{postId})를 올리고, 재생성한 비트맵은 DB 조회 전과 세대가 같을 때만 저장해
+ * 조회 도중 커밋된 변경을 오래된 비트맵으로 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCalendarIndex {
+
+	private static final String KEY = "post:calendar:%d";
+	private static final String GENERATION_KEY = "post:calendar:gen:%d";
+	private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+	private static final Duration TTL = Duration.ofHours(1);
+	// 세대 키는 비트맵보다 오래 유지되어야 재생성 중의 변경을 놓치지 않음
+	private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+	// 세대를 올리고, 비트맵이 생성되어 있을 때만 구간 비트를 세움 (없으면 다음 조회 시 DB 에서 재생성)
+	private static final DefaultRedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('INCR', KEYS[2])
+		redis.call('EXPIRE', KEYS[2], ARGV[3])
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			return 0
+		end
+		for i = tonumber(ARGV[1]), tonumber(ARGV[2]) do
+			redis.call('SETBIT', KEYS[1], i, 1)
+		end
+		return 1
+		""", Long.class);
+
+	private static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('INCR', KEYS[2])
+		redis.call('EXPIRE', KEYS[2], ARGV[1])
+		return redis.call('DEL', KEYS[1])
+		""", Long.class);
+
+	// 재생성 비트맵은 DB 조회 전에 읽은 세대가 그대로일 때만 저장 (ARGV[1]: 비트맵, ARGV[2]: 세대, ARGV[3]: TTL ms)
+	private static final byte[] STORE_SCRIPT = """
+		if (redis.call('GET', KEYS[2]) or '') ~= ARGV[2] then
+			return 0
+		end
+		if redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3], 'NX') then
+			return 1
+		end
+		return 0
+		""".getBytes(StandardCharsets.UTF_8);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final PostQueryRepository postQueryRepository;
+
+	public List<LocalDateTime> getReservedDatesFromToday(long postId) {
+		LocalDate today = LocalDate.now();
+		byte[] key = KEY.formatted(postId).getBytes(StandardCharsets.UTF_8);
+
+		byte[] bitmap = null;
+		try {
+			bitmap = stringRedisTemplate.execute((RedisCallback<byte[]>)conn -> conn.stringCommands().get(key));
+		} catch (Exception e) {
+			log.warn("예약 달력 조회 실패, DB 에서 계산: postId={}", postId, e);
+		}
+
+		if (bitmap == null || !isSet(bitmap, 0)) {
+			String generation = readGeneration(postId);
+			bitmap = build(postId, today);
+			if (generation != null) {
+				store(postId, bitmap, generation);
+			}
+		}
+
+		List<LocalDateTime> reservedDates = new ArrayList<>();
+		for (int i = Math.max(1, indexOf(today)); i < bitmap.length * 8; i++) {
+			if (isSet(bitmap, i)) {
+				reservedDates.add(BASE_DATE.plusDays(i).atStartOfDay());
+			}
+		}
+
+		return reservedDates;
+	}
+
+	/**
+	 * 예약이 기간을 점유하게 되었을 때 (승인 등) 커밋 이후 해당 일자 비트를 세운다.
+	 */
+	public void markReservedAfterCommit(long postId, LocalDateTime startAt, LocalDateTime endAt) {
+		int from = Math.max(1, indexOf(ReservationDaySlot.firstDay(startAt)));
+		int to = indexOf(ReservationDaySlot.lastDay(startAt, endAt));
+		if (to < from) {
+			return;
+		}
+
+		afterCommit(() -> stringRedisTemplate.execute(MARK_SCRIPT,
+			List.of(KEY.formatted(postId), GENERATION_KEY.formatted(postId)),
+			String.valueOf(from), String.valueOf(to), String.valueOf(GENERATION_TTL.toSeconds())));
+	}
+
+	/**
+	 * 예약이 기간 점유를 해제했을 때 (거절/취소 등) 커밋 이후 비트맵을 지워 다음 조회 시 재생성한다.
+	 * 겹치는 다른 예약이 있을 수 있어 비트를 직접 내리지 않는다.
+	 */
+	public void evictAfterCommit(long postId) {
+		afterCommit(() -> stringRedisTemplate.execute(EVICT_SCRIPT,
+			List.of(KEY.formatted(postId), GENERATION_KEY.formatted(postId)),
+			String.valueOf(GENERATION_TTL.toSeconds())));
+	}
+
+	private byte[] build(long postId, LocalDate today) {
+		List<ReservedPeriodDto> periods = postQueryRepository.findReservedPeriodsFrom(postId, today.atStartOfDay());
+
+		int maxIndex = periods.stream()
+			.mapToInt(period -> indexOf(ReservationDaySlot.lastDay(period.startAt(), period.endAt())))
+			.max()
+			.orElse(0);
+
+		byte[] bitmap = new byte[Math.max(0, maxIndex) / 8 + 1];
+		set(bitmap, 0);
+
+		for (ReservedPeriodDto period : periods) {
+			int from = Math.max(1, indexOf(ReservationDaySlot.firstDay(period.startAt())));
+			int to = indexOf(ReservationDaySlot.lastDay(period.startAt(), period.endAt()));
+			for (int i = from; i <= to; i++) {
+				set(bitmap, i);
+			}
+		}
+
+		return bitmap;
+	}
+
+	/**
+	 * @return 현재 세대 (없으면 빈 문자열), Redis 오류 시 null (저장하지 않음)
+	 */
+	private String readGeneration(long postId) {
+		try {
+			return Objects.requireNonNullElse(
+				stringRedisTemplate.opsForValue().get(GENERATION_KEY.formatted(postId)), "");
+		} catch (Exception e) {
+			log.warn("예약 달력 세대 조회 실패: postId={}", postId, e);
+			return null;
+		}
+	}
+
+	// 비트맵은 UTF-8 문자열이 아니므로 직렬화 없이 바이트로 스크립트에 넘긴다
+	private void store(long postId, byte[] bitmap, String generation) {
+		try {
+			stringRedisTemplate.execute((RedisCallback<Long>)conn -> conn.scriptingCommands().eval(
+				STORE_SCRIPT, ReturnType.INTEGER, 2,
+				KEY.formatted(postId).getBytes(StandardCharsets.UTF_8),
+				GENERATION_KEY.formatted(postId).getBytes(StandardCharsets.UTF_8),
+				bitmap,
+				generation.getBytes(StandardCharsets.UTF_8),
+				String.valueOf(TTL.toMillis()).getBytes(StandardCharsets.UTF_8)));
+		} catch (Exception e) {
+			log.warn("예약 달력 저장 실패: postId={}", postId, e);
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		Runnable safeAction = () -> {
+			try {
+				action.run();
+			} catch (Exception e) {
+				log.error("예약 달력 갱신 실패", e);
+			}
+		};
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			safeAction.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				safeAction.run();
+			}
+		});
+	}
+
+	private static int indexOf(LocalDate date) {
+		return (int)ChronoUnit.DAYS.between(BASE_DATE, date);
+	}
+
+	// Redis 비트맵은 바이트 내 최상위 비트가 오프셋 0
+	private static boolean isSet(byte[] bitmap, int index) {
+		int byteIndex = index >>> 3;
+		return byteIndex < bitmap.length && (bitmap[byteIndex] & (0x80 >>> (index & 7))) != 0;
+	}
+
+	private static void set(byte[] bitmap, int index) {
+		bitmap[index >>> 3] |= (byte)(0x80 >>> (index & 7));
+	}
+}
@@ -0,0 +1,187 @@
+package com.back.domain.post.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.back.domain.post.dto.res.PostDetailResBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 상세의 회원 무관 부분을 (로컬 + Redis) 2단계로 캐싱한다.
+ * 이미지·프로필은 원본 키로 저장하고 URL(presigned 포함)은 요청마다 만든다.
+ * Redis 항목은 키에 게시글별 버전을 포함해 변경 시 버전만 올려 무효화하고,
+ * 로컬 항목은 무효화 채널(post:detail:evict)로 모든 서버에서 지운다. 로컬 적중 시에는 Redis 를 거치지 않는다.
+ * Redis 장애 시에는 캐시를 건너뛰고 DB 에서 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDetailCache implements MessageListener {
+
+	private static final String VERSION_KEY = "post:detail:version:%d";
+	private static final String DETAIL_KEY = "post:detail:v2:%d:%s";
+	private static final ChannelTopic EVICT_TOPIC = new ChannelTopic("post:detail:evict");
+
+	private static final Duration TTL = Duration.ofMinutes(10);
+	// 무효화 메시지를 놓쳐도(구독 재연결 등) 오래 남지 않도록 로컬은 짧게 둔다
+	private static final Duration LOCAL_TTL = Duration.ofMinutes(1);
+	// 버전 키는 상세 캐시보다 오래 유지되어야 이전 버전 항목과 충돌하지 않음
+	private static final Duration VERSION_TTL = Duration.ofDays(1);
+	private static final int LOCAL_MAX_SIZE = 1_000;
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper redisObjectMapper;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final Map<Long, LocalEntry> local = Collections.synchronizedMap(
+		new LinkedHashMap<>(256, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, LocalEntry> eldest) {
+				return size() > LOCAL_MAX_SIZE;
+			}
+		});
+
+	// 로컬 무효화 횟수. 조회 중 무효화가 끼어들면 읽은 값을 로컬에 넣지 않는다
+	private final AtomicLong localEvictions = new AtomicLong();
+
+	private record LocalEntry(PostDetailResBody body, long expiresAt) {
+	}
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, EVICT_TOPIC);
+	}
+
+	/**
+	 * @return 이미지 file·작성자 profileImgUrl 이 원본 키인 상세 (URL 변환은 호출자 몫)
+	 */
+	public PostDetailResBody get(long postId, Supplier<PostDetailResBody> loader) {
+		LocalEntry entry = local.get(postId);
+		if (entry != null && entry.expiresAt() > System.currentTimeMillis()) {
+			return entry.body();
+		}
+
+		long evictions = localEvictions.get();
+
+		String key;
+		try {
+			String version = stringRedisTemplate.opsForValue().get(VERSION_KEY.formatted(postId));
+			key = DETAIL_KEY.formatted(postId, Objects.requireNonNullElse(version, "0"));
+		} catch (Exception e) {
+			log.warn("게시글 상세 캐시 버전 조회 실패: postId={}", postId, e);
+			return loader.get();
+		}
+
+		PostDetailResBody cached = readRemote(key);
+		if (cached != null) {
+			putLocal(postId, cached, evictions);
+			return cached;
+		}
+
+		PostDetailResBody loaded = loader.get();
+		writeRemote(key, loaded);
+		putLocal(postId, loaded, evictions);
+
+		return loaded;
+	}
+
+	public void evictAfterCommit(Long postId) {
+		evictAfterCommit(List.of(postId));
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋된 뒤 버전을 올린다. 트랜잭션 밖이면 즉시 올린다.
+	 */
+	public void evictAfterCommit(Collection<Long> postIds) {
+		if (postIds.isEmpty()) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict(postIds);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evict(postIds);
+			}
+		});
+	}
+
+	private void evict(Collection<Long> postIds) {
+		for (Long postId : postIds) {
+			evictLocal(postId);
+
+			String versionKey = VERSION_KEY.formatted(postId);
+			try {
+				stringRedisTemplate.opsForValue().increment(versionKey);
+				stringRedisTemplate.expire(versionKey, VERSION_TTL);
+				stringRedisTemplate.convertAndSend(EVICT_TOPIC.getTopic(), String.valueOf(postId));
+			} catch (Exception e) {
+				log.error("게시글 상세 캐시 무효화 실패: postId={}", postId, e);
+			}
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			evictLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+		} catch (NumberFormatException e) {
+			log.warn("게시글 상세 캐시 무효화 메시지 형식 오류", e);
+		}
+	}
+
+	private void evictLocal(Long postId) {
+		localEvictions.incrementAndGet();
+		local.remove(postId);
+	}
+
+	private PostDetailResBody readRemote(String key) {
+		try {
+			String json = stringRedisTemplate.opsForValue().get(key);
+			return json != null ? redisObjectMapper.readValue(json, PostDetailResBody.class) : null;
+		} catch (Exception e) {
+			log.warn("게시글 상세 캐시 조회 실패: key={}", key, e);
+			return null;
+		}
+	}
+
+	private void writeRemote(String key, PostDetailResBody body) {
+		try {
+			stringRedisTemplate.opsForValue().set(key, redisObjectMapper.writeValueAsString(body), TTL);
+		} catch (Exception e) {
+			log.warn("게시글 상세 캐시 저장 실패: key={}", key, e);
+		}
+	}
+
+	private void putLocal(Long postId, PostDetailResBody body, long evictionsBeforeRead) {
+		if (localEvictions.get() != evictionsBeforeRead) {
+			return;
+		}
+		local.put(postId, new LocalEntry(body, System.currentTimeMillis() + LOCAL_TTL.toMillis()));
+	}
+}
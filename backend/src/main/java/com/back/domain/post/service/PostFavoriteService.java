@@ -0,0 +1,35 @@
+package com.back.domain.post.service;
+
+import java.util.Collection;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.back.domain.post.repository.PostFavoriteQueryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class PostFavoriteService {
+
+	private final PostFavoriteQueryRepository postFavoriteQueryRepository;
+
+	/**
+	 * 목록 한 페이지 분량의 즐겨찾기 여부를 단일 쿼리로 조회 (비로그인이면 빈 집합)
+	 */
+	@Transactional(readOnly = true)
+	public Set<Long> getFavoritePostIds(Long memberId, Collection<Long> postIds) {
+		if (memberId == null || postIds == null || postIds.isEmpty()) {
+			return Set.of();
+		}
+
+		return postFavoriteQueryRepository.findFavoritePostIds(memberId, postIds);
+	}
+
+	@Transactional(readOnly = true)
+	public boolean isFavorite(Long memberId, Long postId) {
+		return getFavoritePostIds(memberId, Set.of(postId)).contains(postId);
+	}
+}
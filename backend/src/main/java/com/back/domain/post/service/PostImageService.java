@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.back.domain.post.dto.req.PostImageReqBody;
+import com.back.domain.post.dto.res.PostDetailResBody;
 import com.back.domain.post.dto.res.PostImageResBody;
 import com.back.domain.post.entity.Post;
 import com.back.domain.post.entity.PostImage;
@@ -103,6 +104,21 @@ public class PostImageService {
 		return images.stream().map(img -> PostImageResBody.of(img, s3.getPostDetailUrl(img.getImageUrl()))).toList();
 	}
 
+	/**
+	 * 원본 키로 캐싱된 상세의 이미지·작성자 프로필을 요청 시점의 URL 로 바꾼다
+	 */
+	public PostDetailResBody resolveUrls(PostDetailResBody detail) {
+		List<PostImageResBody> images = detail.images().stream()
+			.map(img -> new PostImageResBody(img.id(), s3.getPostDetailUrl(img.file()), img.isPrimary()))
+			.toList();
+
+		return detail.withUrls(images, toProfileThumbnailUrl(detail.author().profileImgUrl()));
+	}
+
+	public String toThumbnailUrl(String primaryImageUrl) {
+		return primaryImageUrl != null ? s3.getPostThumbnailUrl(primaryImageUrl) : null;
+	}
+
 	public String toThumbnailUrl(Post post) {
 		return post.getImages()
 			.stream()
@@ -0,0 +1,78 @@
+package com.back.domain.post.service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.back.domain.post.dto.req.PostListCondition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 목록 COUNT 결과를 정규화된 필터 단위로 짧게(30초) 캐싱한다.
+ * 같은 필터로 페이지를 넘길 때마다 반복되는 COUNT 쿼리를 줄이기 위한 용도로, 값은 근사치일 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostListCountCache {
+
+	private static final String CACHE_NAME = "postListCount";
+
+	private final CacheManager cacheManager;
+
+	public long getOrCount(PostListCondition condition, LongSupplier counter) {
+		Cache cache = cacheManager.getCache(CACHE_NAME);
+		if (cache == null) {
+			return counter.getAsLong();
+		}
+
+		String key = keyOf(condition);
+
+		try {
+			Cache.ValueWrapper cached = cache.get(key);
+			if (cached != null && cached.get() instanceof Number count) {
+				return count.longValue();
+			}
+		} catch (Exception e) {
+			log.warn("게시글 목록 COUNT 캐시 조회 실패: key={}", key, e);
+			return counter.getAsLong();
+		}
+
+		long count = counter.getAsLong();
+
+		try {
+			cache.put(key, count);
+		} catch (Exception e) {
+			log.warn("게시글 목록 COUNT 캐시 저장 실패: key={}", key, e);
+		}
+
+		return count;
+	}
+
+	// 같은 조건이면 입력 순서·중복·대소문자와 무관하게 같은 키가 되도록 정규화
+	static String keyOf(PostListCondition condition) {
+		String keyword = condition.keyword();
+		String normalizedKeyword = (keyword == null) ? "" : keyword.strip().toLowerCase(Locale.ROOT);
+
+		return "k=" + normalizedKeyword
+			+ "|c=" + joinSorted(condition.categoryIds())
+			+ "|r=" + joinSorted(condition.regionIds())
+			+ "|a=" + Objects.toString(condition.availableFrom(), "") + "~" + Objects.toString(condition.availableTo(), "");
+	}
+
+	private static String joinSorted(List<Long> ids) {
+		if (ids == null || ids.isEmpty()) {
+			return "";
+		}
+
+		return ids.stream().distinct().sorted().map(String::valueOf).collect(Collectors.joining(","));
+	}
+}
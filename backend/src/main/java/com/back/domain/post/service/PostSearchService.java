@@ -3,6 +3,7 @@ package com.back.domain.post.service;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.ai.chat.client.ChatClient;
@@ -16,7 +17,6 @@ import com.back.domain.category.repository.CategoryRepository;
 import com.back.domain.post.dto.res.PostListResBody;
 import com.back.domain.post.entity.Post;
 import com.back.domain.post.entity.PostImage;
-import com.back.domain.post.repository.PostFavoriteRepository;
 import com.back.domain.post.repository.PostRepository;
 import com.back.domain.region.entity.Region;
 import com.back.domain.region.repository.RegionRepository;
@@ -27,7 +27,7 @@ public class PostSearchService {
 
 	private final PostVectorService postVectorService;
 	private final PostRepository postRepository;
-	private final PostFavoriteRepository postfavoriteRepository;
+	private final PostFavoriteService postFavoriteService;
 	private final CategoryRepository categoryRepository;
 	private final RegionRepository regionRepository;
 	private final S3Uploader s3;
@@ -41,12 +41,12 @@ public class PostSearchService {
 	private String rerankPrompt;
 
 	public PostSearchService(PostVectorService postVectorService, PostRepository postRepository,
-		PostFavoriteRepository postfavoriteRepository, CategoryRepository categoryRepository,
+		PostFavoriteService postFavoriteService, CategoryRepository categoryRepository,
 		RegionRepository regionRepository, S3Uploader s3, @Qualifier("gpt41MiniChatClient") ChatClient rerankerClient,
 		@Qualifier("gpt51ChatClient") ChatClient answerClient) {
 		this.postVectorService = postVectorService;
 		this.postRepository = postRepository;
-		this.postfavoriteRepository = postfavoriteRepository;
+		this.postFavoriteService = postFavoriteService;
 		this.categoryRepository = categoryRepository;
 		this.regionRepository = regionRepository;
 		this.s3 = s3;
@@ -78,10 +78,12 @@ public class PostSearchService {
 			.limit(3)
 			.toList();
 
+		Set<Long> favoritePostIds = postFavoriteService.getFavoritePostIds(memberId,
+			recommendPosts.stream().map(Post::getId).toList());
+
 		return recommendPosts.stream().map(post -> {
 
-			boolean isFavorite =
-				(memberId != null) && postfavoriteRepository.existsByMemberIdAndPostId(memberId, post.getId());
+			boolean isFavorite = favoritePostIds.contains(post.getId());
 
 			String thumbnail = post.getImages()
 				.stream()
@@ -1,10 +1,17 @@
 package com.back.domain.post.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,15 +19,18 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.back.domain.category.entity.Category;
 import com.back.domain.category.repository.CategoryRepository;
+import com.back.domain.category.service.CategoryHierarchy;
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.repository.MemberRepository;
 import com.back.domain.post.dto.req.PostCreateReqBody;
 import com.back.domain.post.dto.req.PostEmbeddingDto;
+import com.back.domain.post.dto.req.PostListCondition;
 import com.back.domain.post.dto.req.PostUpdateReqBody;
+import com.back.domain.post.dto.res.FavoritePostCardDto;
 import com.back.domain.post.dto.res.PostBannedResBody;
+import com.back.domain.post.dto.res.PostCardDto;
 import com.back.domain.post.dto.res.PostCreateResBody;
 import com.back.domain.post.dto.res.PostDetailResBody;
-import com.back.domain.post.dto.res.PostImageResBody;
 import com.back.domain.post.dto.res.PostListResBody;
 import com.back.domain.post.entity.Post;
 import com.back.domain.post.entity.PostFavorite;
@@ -32,9 +42,15 @@ import com.back.domain.post.repository.PostFavoriteRepository;
 import com.back.domain.post.repository.PostOptionRepository;
 import com.back.domain.post.repository.PostQueryRepository;
 import com.back.domain.post.repository.PostRepository;
+import com.back.domain.post.repository.PostTitleNgramRepository;
 import com.back.domain.region.entity.Region;
 import com.back.domain.region.repository.RegionRepository;
+import com.back.domain.region.service.RegionHierarchy;
 import com.back.global.exception.ServiceException;
+import com.back.standard.util.page.CursorPayload;
+import com.back.standard.util.page.CursorSlice;
+import com.back.standard.util.page.CursorUt;
+import com.back.standard.util.page.PageCountMode;
 import com.back.standard.util.page.PagePayload;
 import com.back.standard.util.page.PageUt;
 
@@ -52,12 +68,19 @@ public class PostService {
 	private final PostFavoriteRepository postFavoriteRepository;
 	private final PostQueryRepository postQueryRepository;
 	private final PostFavoriteQueryRepository postFavoriteQueryRepository;
+	private final PostTitleNgramRepository postTitleNgramRepository;
 	private final PostVectorService postVectorService;
 	private final PostTransactionService postTransactionService;
 	private final PostImageService postImageService;
+	private final PostFavoriteService postFavoriteService;
+	private final PostListCountCache postListCountCache;
+	private final PostDetailCache postDetailCache;
+	private final PostCalendarIndex postCalendarIndex;
 
 	private final RegionRepository regionRepository;
 	private final CategoryRepository categoryRepository;
+	private final RegionHierarchy regionHierarchy;
+	private final CategoryHierarchy categoryHierarchy;
 
 	@Transactional
 	public PostCreateResBody createPost(PostCreateReqBody reqBody, List<MultipartFile> images, Long memberId) {
@@ -102,63 +125,105 @@ public class PostService {
 
 		Post savedPost = this.postRepository.save(post);
 
+		this.postTitleNgramRepository.reindex(savedPost.getId(), savedPost.getTitle());
+
 		return PostCreateResBody.of(savedPost);
 	}
 
 	@Transactional(readOnly = true)
 	public PagePayload<PostListResBody> getPostList(Pageable pageable, String keyword, List<Long> categoryIds,
-		List<Long> regionIds, Long memberId) {
-		boolean hasFilter = (keyword != null && !keyword.isBlank()) || categoryIds != null || (regionIds != null
-			&& !regionIds.isEmpty());
+		List<Long> regionIds, LocalDate availableFrom, LocalDate availableTo, Long memberId,
+		PageCountMode countMode) {
 
-		if (regionIds != null && regionIds.isEmpty())
-			regionIds = null;
+		PostListCondition condition = toListCondition(keyword, categoryIds, regionIds, availableFrom, availableTo);
 
-		Page<Post> postPage =
-			hasFilter ? this.postQueryRepository.findFilteredPosts(keyword, categoryIds, regionIds, pageable) :
-				this.postRepository.findByIsBannedFalse(pageable);
+		if (countMode == PageCountMode.NONE) {
+			Slice<PostCardDto> cardSlice = this.postQueryRepository.findPostCardSlice(condition, pageable);
 
-		Page<PostListResBody> mappedPage = postPage.map(post -> {
+			return PageUt.ofSlice(cardSlice.map(toPostListResBody(cardSlice.getContent(), memberId)));
+		}
 
-			boolean isFavorite = memberId != null && !post.getAuthor().getId().equals(memberId)
-				&& this.postFavoriteRepository.findByMemberIdAndPostId(memberId, post.getId()).isPresent();
+		LongSupplier counter = () -> this.postQueryRepository.countPostCards(condition);
+		LongSupplier totalCount = (countMode == PageCountMode.CACHED)
+			? () -> this.postListCountCache.getOrCount(condition, counter)
+			: counter;
 
-			String thumbnail = postImageService.toThumbnailUrl(post);
+		Page<PostCardDto> cardPage = this.postQueryRepository.findPostCards(condition, pageable, totalCount);
 
-			return PostListResBody.of(post, isFavorite, thumbnail);
-		});
+		return PageUt.of(cardPage.map(toPostListResBody(cardPage.getContent(), memberId)), countMode);
+	}
+
+	/**
+	 * 카테고리·지역을 하위 항목까지 확장하고, 이용 희망 기간을 [시작일 00:00, 종료일 다음날 00:00) 로 변환한다.
+	 */
+	private PostListCondition toListCondition(String keyword, List<Long> categoryIds, List<Long> regionIds,
+		LocalDate availableFrom, LocalDate availableTo) {
+
+		if ((availableFrom == null) != (availableTo == null)) {
+			throw new ServiceException(HttpStatus.BAD_REQUEST, "이용 기간은 시작일과 종료일을 함께 입력해야 합니다.");
+		}
+
+		if (availableFrom != null && availableFrom.isAfter(availableTo)) {
+			throw new ServiceException(HttpStatus.BAD_REQUEST, "이용 기간의 시작일은 종료일보다 늦을 수 없습니다.");
+		}
 
-		return PageUt.of(mappedPage);
+		return new PostListCondition(keyword, this.categoryHierarchy.expand(categoryIds),
+			this.regionHierarchy.expand(regionIds),
+			availableFrom != null ? availableFrom.atStartOfDay() : null,
+			availableTo != null ? availableTo.plusDays(1).atStartOfDay() : null);
+	}
+
+	private Function<PostCardDto, PostListResBody> toPostListResBody(List<PostCardDto> cards, Long memberId) {
+		Set<Long> favoritePostIds = this.postFavoriteService.getFavoritePostIds(memberId,
+			cards.stream().map(PostCardDto::id).toList());
+
+		return toPostListResBody(cards, favoritePostIds);
 	}
 
 	@Transactional(readOnly = true)
-	public PostDetailResBody getPostById(Long postId, Long memberId) {
-		Post post = this.postRepository.findById(postId)
-			.orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND, "%d번 글은 존재하지 않는 게시글입니다.".formatted(postId)));
+	public CursorPayload<PostListResBody> getPostListByCursor(String cursor, int size, String keyword,
+		List<Long> categoryIds, List<Long> regionIds, LocalDate availableFrom, LocalDate availableTo, Long memberId) {
 
-		boolean isFavorite = false;
+		PostListCondition condition = toListCondition(keyword, categoryIds, regionIds, availableFrom, availableTo);
 
-		if (memberId != null) {
-			isFavorite = this.postFavoriteRepository.findByMemberIdAndPostId(memberId, postId).isPresent();
-		}
+		CursorSlice<PostCardDto> slice = this.postQueryRepository.findPostCardsByCursor(condition, cursor, size);
+
+		return CursorUt.of(slice.map(toPostListResBody(slice.content(), memberId)));
+	}
 
-		List<PostImageResBody> images = postImageService.toImageResBodies(post.getImages());
+	/**
+	 * 카드 목록의 지역 ID를 한 번에 조회해 응답으로 변환하는 매퍼를 만든다.
+	 * 본인 글은 즐겨찾기할 수 없으므로 favoritePostIds 포함 여부만으로 isFavorite 을 판단한다.
+	 */
+	private Function<PostCardDto, PostListResBody> toPostListResBody(List<PostCardDto> cards,
+		Set<Long> favoritePostIds) {
+		Map<Long, List<Long>> regionIds = this.postQueryRepository.findRegionIdsByPostIds(
+			cards.stream().map(PostCardDto::id).toList());
+
+		return card -> PostListResBody.of(card, regionIds.getOrDefault(card.id(), List.of()),
+			favoritePostIds.contains(card.id()), postImageService.toThumbnailUrl(card.primaryImageUrl()));
+	}
 
-		String authorProfileUrl = postImageService.toProfileThumbnailUrl(post.getAuthor().getProfileImgUrl());
+	public PostDetailResBody getPostById(Long postId, Long memberId) {
+		PostDetailResBody detail = this.postDetailCache.get(postId,
+			() -> this.postTransactionService.getPostDetail(postId));
 
-		return PostDetailResBody.of(post, isFavorite, images, authorProfileUrl);
+		return this.postImageService.resolveUrls(detail)
+			.withFavorite(this.postFavoriteService.isFavorite(memberId, postId));
 	}
 
 	@Transactional(readOnly = true)
 	public PagePayload<PostListResBody> getMyPosts(Long memberId, Pageable pageable) {
-		Page<PostListResBody> result = this.postQueryRepository.findMyPost(memberId, pageable).map(post -> {
+		Page<PostCardDto> cardPage = this.postQueryRepository.findMyPostCards(memberId, pageable);
 
-			String thumbnail = postImageService.toThumbnailUrl(post);
+		return PageUt.of(cardPage.map(toPostListResBody(cardPage.getContent(), Set.of())));
+	}
 
-			return PostListResBody.of(post, false, thumbnail);
-		});
+	@Transactional(readOnly = true)
+	public CursorPayload<PostListResBody> getMyPostsByCursor(Long memberId, String cursor, int size) {
+		CursorSlice<PostCardDto> slice = this.postQueryRepository.findMyPostCardsByCursor(memberId, cursor, size);
 
-		return PageUt.of(result);
+		return CursorUt.of(slice.map(toPostListResBody(slice.content(), Set.of())));
 	}
 
 	@Transactional(readOnly = true)
@@ -191,19 +256,24 @@ public class PostService {
 	@Transactional(readOnly = true)
 	public PagePayload<PostListResBody> getFavoritePosts(long memberId, Pageable pageable) {
 
-		Page<PostFavorite> favorites = this.postFavoriteQueryRepository.findFavoritePosts(memberId, pageable);
+		Page<PostCardDto> cardPage = this.postFavoriteQueryRepository.findFavoritePostCards(memberId, pageable)
+			.map(FavoritePostCardDto::post);
 
-		Page<PostListResBody> result = favorites.map(fav -> {
+		List<PostCardDto> cards = cardPage.getContent();
+		Set<Long> favoritePostIds = cards.stream().map(PostCardDto::id).collect(Collectors.toSet());
 
-			Post post = fav.getPost();
+		return PageUt.of(cardPage.map(toPostListResBody(cards, favoritePostIds)));
 
-			String thumbnail = postImageService.toThumbnailUrl(post);
+	}
 
-			return PostListResBody.of(post, true, thumbnail);
-		});
+	@Transactional(readOnly = true)
+	public CursorPayload<PostListResBody> getFavoritePostsByCursor(long memberId, String cursor, int size) {
+		CursorSlice<PostCardDto> slice = this.postFavoriteQueryRepository.findFavoritePostCardsByCursor(memberId,
+			cursor, size).map(FavoritePostCardDto::post);
 
-		return PageUt.of(result);
+		Set<Long> favoritePostIds = slice.content().stream().map(PostCardDto::id).collect(Collectors.toSet());
 
+		return CursorUt.of(slice.map(toPostListResBody(slice.content(), favoritePostIds)));
 	}
 
 	@Transactional
@@ -219,6 +289,8 @@ public class PostService {
 		Category category = this.categoryRepository.findById(reqBody.categoryId())
 			.orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND, "존재하지 않는 카테고리입니다."));
 
+		boolean titleChanged = !post.getTitle().equals(reqBody.title());
+
 		post.updatePost(reqBody.title(), reqBody.content(), reqBody.receiveMethod(), reqBody.returnMethod(),
 			reqBody.returnAddress1(), reqBody.returnAddress2(), reqBody.deposit(), reqBody.fee());
 
@@ -241,9 +313,15 @@ public class PostService {
 		List<PostImage> newImages = postImageService.updateImages(post, images, reqBody.images());
 		post.resetPostImages(newImages);
 
+		if (titleChanged) {
+			this.postTitleNgramRepository.reindex(postId, reqBody.title());
+		}
+
 		postVectorService.deletePost(postId);
 
 		post.updateEmbeddingStatusWait();
+
+		postDetailCache.evictAfterCommit(postId);
 	}
 
 	@Transactional
@@ -258,13 +336,17 @@ public class PostService {
 
 		postImageService.deleteImages(post);
 
+		postTitleNgramRepository.deleteByPostId(postId);
+
 		postRepository.delete(post);
 
 		postVectorService.deletePost(postId);
+
+		postDetailCache.evictAfterCommit(postId);
 	}
 
 	public List<LocalDateTime> getReservedDates(Long id) {
-		return postQueryRepository.findReservedDatesFromToday(id);
+		return postCalendarIndex.getReservedDatesFromToday(id);
 	}
 
 	@Transactional
@@ -275,6 +357,7 @@ public class PostService {
 			throw new ServiceException(HttpStatus.BAD_REQUEST, "%d번 글은 이미 차단되었습니다.".formatted(postId));
 		}
 		post.ban();
+		postDetailCache.evictAfterCommit(postId);
 		return PostBannedResBody.of(post);
 	}
 
@@ -286,6 +369,7 @@ public class PostService {
 			throw new ServiceException(HttpStatus.BAD_REQUEST, "%d번 글은 제재되지 않았습니다.".formatted(postId));
 		}
 		post.unban();
+		postDetailCache.evictAfterCommit(postId);
 		return PostBannedResBody.of(post);
 	}
 
@@ -333,10 +417,4 @@ public class PostService {
 
 		log.info("Embedding batch finished. 성공: {}, 실패: {}", successCount, failedCount);
 	}
-
-	@Transactional
-	public Post getByIdWithLock(Long id) {
-		return postRepository.findByIdWithLock(id)
-			.orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND, "존재하지 않는 게시글입니다."));
-	}
 }
\ No newline at end of file
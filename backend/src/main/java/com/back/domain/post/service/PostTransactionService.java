@@ -2,12 +2,18 @@ package com.back.domain.post.service;
 
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.back.domain.post.common.EmbeddingStatus;
 import com.back.domain.post.dto.req.PostEmbeddingDto;
+import com.back.domain.post.dto.res.PostDetailResBody;
+import com.back.domain.post.dto.res.PostImageResBody;
+import com.back.domain.post.entity.Post;
 import com.back.domain.post.repository.PostQueryRepository;
+import com.back.domain.post.repository.PostRepository;
+import com.back.global.exception.ServiceException;
 
 import lombok.RequiredArgsConstructor;
 
@@ -15,6 +21,23 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PostTransactionService {
 	private final PostQueryRepository postQueryRepository;
+	private final PostRepository postRepository;
+
+	/**
+	 * 캐시 적재용 게시글 상세 조회 (isFavorite 은 요청마다 계산하므로 false 로 채움).
+	 * presigned URL 이 캐시에서 만료되지 않도록 이미지·프로필은 원본 키 그대로 둔다.
+	 */
+	@Transactional(readOnly = true)
+	public PostDetailResBody getPostDetail(Long postId) {
+		Post post = postRepository.findById(postId)
+			.orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND, "%d번 글은 존재하지 않는 게시글입니다.".formatted(postId)));
+
+		List<PostImageResBody> images = post.getImages().stream()
+			.map(img -> PostImageResBody.of(img, img.getImageUrl()))
+			.toList();
+
+		return PostDetailResBody.of(post, false, images, post.getAuthor().getProfileImgUrl());
+	}
 
 	/**
 	 * WAIT -> PENDING으로 벌크 업데이트 (버전 증가 포함)
@@ -0,0 +1,30 @@
+package com.back.domain.region.service;
+
+import com.back.domain.region.entity.Region;
+import com.back.domain.region.repository.RegionRepository;
+import com.back.global.hierarchy.HierarchyHolder;
+import com.back.global.hierarchy.HierarchySnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+public class RegionHierarchy extends HierarchyHolder {
+
+    private final RegionRepository regionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public String name() {
+        return "region";
+    }
+
+    @Override
+    protected HierarchySnapshot load() {
+        // 하위 지역 컬렉션을 끝까지 순회해야 하므로 트랜잭션 안에서 생성
+        return transactionTemplate.execute(status -> HierarchySnapshot.of(
+                regionRepository.findAllWithChildren(), Region::getId, Region::getChildren
+        ));
+    }
+}
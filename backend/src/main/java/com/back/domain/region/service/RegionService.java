@@ -6,6 +6,7 @@ import com.back.domain.region.dto.RegionUpdateReqBody;
 import com.back.domain.region.entity.Region;
 import com.back.domain.region.repository.RegionRepository;
 import com.back.global.exception.ServiceException;
+import com.back.global.hierarchy.HierarchyInvalidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
@@ -20,6 +21,8 @@ import java.util.List;
 public class RegionService {
 
     private final RegionRepository regionRepository;
+    private final RegionHierarchy regionHierarchy;
+    private final HierarchyInvalidator hierarchyInvalidator;
 
     public RegionResBody createRegion(RegionCreateReqBody regionCreateReqBody) {
         Long parentId = regionCreateReqBody.parentId();
@@ -45,6 +48,7 @@ public class RegionService {
         Region region = Region.create(regionName, parentRegion);
 
         Region saved = regionRepository.save(region);
+        hierarchyInvalidator.invalidateAfterCommit(regionHierarchy);
         return RegionResBody.of(saved);
     }
 
@@ -52,6 +56,7 @@ public class RegionService {
         Region region = Region.create(regionName, null);
 
         Region saved = regionRepository.save(region);
+        hierarchyInvalidator.invalidateAfterCommit(regionHierarchy);
         return RegionResBody.of(saved);
     }
 
@@ -68,6 +73,7 @@ public class RegionService {
         try {
             regionRepository.deleteById(regionId);
             regionRepository.flush();
+            hierarchyInvalidator.invalidateAfterCommit(regionHierarchy);
         } catch (DataIntegrityViolationException e) { // DB FK 제약 조건 위반 시 발생에러, 데이터 베이스에 FK 설정 필요 (PostRegion 테이블)
             throw new ServiceException(HttpStatus.BAD_REQUEST, "%d번 지역을 참조 중인 게시글이 있습니다.".formatted(regionId));
         }
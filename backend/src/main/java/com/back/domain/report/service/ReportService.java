@@ -4,6 +4,7 @@ import com.back.domain.member.entity.Member;
 import com.back.domain.member.repository.MemberQueryRepository;
 import com.back.domain.member.repository.MemberRepository;
 import com.back.domain.post.repository.PostQueryRepository;
+import com.back.domain.post.service.PostDetailCache;
 import com.back.domain.report.common.ReportType;
 import com.back.domain.report.common.validator.ReportValidator;
 import com.back.domain.report.dto.ReportReqBody;
@@ -38,6 +39,7 @@ public class ReportService {
     private final MemberRepository memberRepository;
     private final MemberQueryRepository memberQueryRepository;
     private final PostQueryRepository postQueryRepository;
+    private final PostDetailCache postDetailCache;
     private final ReviewQueryRepository reviewQueryRepository;
     private final ReportQueryRepository reportQueryRepository;
 
@@ -116,6 +118,7 @@ public class ReportService {
 
     private int banPosts(List<Long> postIds, Map<Long, List<Report>> targetReports) {
         long bannedCount = postQueryRepository.bulkBanPosts(postIds);
+        postDetailCache.evictAfterCommit(postIds);
         // 총 처리 건수 로깅만 가능
         log.info("게시글 제재 처리 완료! 총 개수: {}", bannedCount);
         return (int) bannedCount;
@@ -4,6 +4,7 @@ import lombok.Getter;
 
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -31,6 +32,13 @@ public enum ReservationStatus {
     private final boolean isReviewable;
     private final ReservationStatusSubject statusSubject;
 
+    /**
+     * 기간 중복 판단에서 제외하는 상태 (예약 중복 검사, 이용 가능 기간 검색에서 공통 사용)
+     */
+    public static final Set<ReservationStatus> OVERLAP_EXCLUDED_STATUSES = Collections.unmodifiableSet(EnumSet.of(
+            PENDING_APPROVAL, CANCELLED, REJECTED, REFUND_COMPLETED, CLAIM_COMPLETED
+    ));
+
     private static final Map<ReservationStatus, Set<ReservationStatus>> ALLOWED_TRANSITIONS;
 
     static {
@@ -78,6 +86,22 @@ public enum ReservationStatus {
         return getAllowedTransitions().contains(targetStatus);
     }
 
+    /**
+     * 예약 기간을 점유하는 상태인지 확인 (승인 대기/거절/취소는 점유하지 않음)
+     */
+    public boolean occupiesPeriod() {
+        return this != PENDING_APPROVAL &&
+                this != REJECTED &&
+                this != CANCELLED;
+    }
+
+    /**
+     * 일자 슬롯(reservation_day_slot)을 점유하는 상태인지 확인 (기간 중복 검사 기준과 동일)
+     */
+    public boolean holdsDaySlots() {
+        return !OVERLAP_EXCLUDED_STATUSES.contains(this);
+    }
+
     /**
      * 취소 가능한 상태인지 확인
      */
@@ -4,6 +4,7 @@ import com.back.domain.reservation.common.ReservationStatus;
 import com.back.domain.reservation.dto.*;
 import com.back.global.rsData.RsData;
 import com.back.global.security.SecurityUser;
+import com.back.standard.util.page.CursorPayload;
 import com.back.standard.util.page.PagePayload;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -41,6 +42,18 @@ public interface ReservationApi {
             @Parameter(description = "검색 키워드 (선택)") @RequestParam(required = false) String keyword
     );
 
+    @Operation(
+            summary = "게스트가 신청한 예약 목록 커서 조회",
+            description = "게스트로서 신청한 예약 목록을 커서 기반으로 조회합니다. 전체 개수를 계산하지 않아 무한 스크롤에 적합합니다."
+    )
+    ResponseEntity<RsData<CursorPayload<GuestReservationSummaryResBody>>> getSentReservationsByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal SecurityUser securityUser,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본값 5)") @RequestParam(defaultValue = "5") int size,
+            @Parameter(description = "예약 상태 필터 (선택)") @RequestParam(required = false) List<ReservationStatus> status,
+            @Parameter(description = "검색 키워드 (선택)") @RequestParam(required = false) String keyword
+    );
+
     @Operation(
             summary = "호스트가 받은 예약 목록 조회",
             description = "특정 게시글에 대해 받은 예약 목록을 조회합니다. 해당 게시글의 작성자만 조회 가능합니다."
@@ -7,6 +7,7 @@ import com.back.domain.reservation.dto.*;
 import com.back.domain.reservation.service.ReservationService;
 import com.back.global.rsData.RsData;
 import com.back.global.security.SecurityUser;
+import com.back.standard.util.page.CursorPayload;
 import com.back.standard.util.page.PagePayload;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -57,6 +58,21 @@ public class ReservationController implements ReservationApi {
         return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "%d번 게스트가 등록한 예약 목록입니다.".formatted(author.getId()), reservations));
     }
 
+    @GetMapping("/sent/cursor")
+    public ResponseEntity<RsData<CursorPayload<GuestReservationSummaryResBody>>> getSentReservationsByCursor(
+            @AuthenticationPrincipal SecurityUser securityUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(required = false) List<ReservationStatus> status,
+            @RequestParam(required = false) String keyword
+    ) {
+        Member author = memberService.getById(securityUser.getId());
+
+        CursorPayload<GuestReservationSummaryResBody> reservations = reservationService.getSentReservationsByCursor(author, cursor, size, status, keyword);
+
+        return ResponseEntity.ok(new RsData<>(HttpStatus.OK, "%d번 게스트가 등록한 예약 목록입니다.".formatted(author.getId()), reservations));
+    }
+
     @GetMapping("/received/{postId}")
     public ResponseEntity<RsData<PagePayload<HostReservationSummaryResBody>>> getReceivedReservations(
             @AuthenticationPrincipal SecurityUser securityUser,
@@ -0,0 +1,9 @@
+package com.back.domain.reservation.dto;
+
+public record ReservationTransitionTargetDto(
+        Long id,
+        Long postId,
+        Long guestId,
+        Long hostId
+) {
+}
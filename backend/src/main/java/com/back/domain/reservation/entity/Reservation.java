@@ -21,6 +21,8 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(indexes = @Index(name = "idx_reservation_post_period",
+        columnList = "post_id, reservation_start_at, reservation_end_at"))
 public class Reservation extends BaseEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, name = "status")
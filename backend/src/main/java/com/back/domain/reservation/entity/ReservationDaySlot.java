@@ -0,0 +1,53 @@
+package com.back.domain.reservation.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글의 하루 단위 예약 점유 슬롯. (post_id, day) 유니크 제약으로 이중 예약을 DB 가 막는다.
+ * 쓰기는 ReservationDaySlotRepository(JDBC)로만 한다.
+ * <p>
+ * 예약은 일 단위로 점유한다. [startAt, endAt) 이 걸친 모든 날짜를 점유하므로 같은 날 반납·수령(인계)은
+ * 허용하지 않고, 자정에 끝나는 예약은 그 날짜를 점유하지 않는다. 기간 중복 검사와 예약 달력도 같은 기준을 쓴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reservation_day_slot",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reservation_day_slot_post_day", columnNames = {"post_id", "slot_date"}),
+        indexes = @Index(name = "idx_reservation_day_slot_reservation", columnList = "reservation_id"))
+public class ReservationDaySlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "slot_date", nullable = false)
+    private LocalDate slotDate;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    /**
+     * 예약이 점유하는 첫 날짜
+     */
+    public static LocalDate firstDay(LocalDateTime startAt) {
+        return startAt.toLocalDate();
+    }
+
+    /**
+     * 예약이 점유하는 마지막 날짜 (endAt 은 포함하지 않음, 최소 하루)
+     */
+    public static LocalDate lastDay(LocalDateTime startAt, LocalDateTime endAt) {
+        LocalDate last = endAt.minusNanos(1).toLocalDate();
+        return last.isBefore(firstDay(startAt)) ? firstDay(startAt) : last;
+    }
+}
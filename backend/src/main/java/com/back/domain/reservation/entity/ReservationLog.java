@@ -11,6 +11,9 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class ReservationLog extends BaseEntity {
+    // 스케줄러 등 시스템이 상태를 전환한 경우의 작성자 ID
+    public static final long SYSTEM_AUTHOR_ID = 0L;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ReservationStatus status;
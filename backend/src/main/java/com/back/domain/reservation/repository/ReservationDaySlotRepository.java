@@ -0,0 +1,53 @@
+package com.back.domain.reservation.repository;
+
+import com.back.domain.reservation.entity.ReservationDaySlot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationDaySlotRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 예약 기간이 걸친 모든 날짜 슬롯을 점유 (호출한 트랜잭션에 참여). 날짜 기준은 ReservationDaySlot 참고.
+     * 이미 다른 예약이 점유한 날짜가 있으면 유니크 제약 위반으로 DuplicateKeyException 이 발생한다.
+     */
+    public void claim(Long reservationId, Long postId, LocalDateTime startAt, LocalDateTime endAt) {
+        LocalDate lastDay = ReservationDaySlot.lastDay(startAt, endAt);
+
+        List<Object[]> args = new ArrayList<>();
+        for (LocalDate day = ReservationDaySlot.firstDay(startAt); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            args.add(new Object[]{postId, Date.valueOf(day), reservationId});
+        }
+
+        if (args.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO reservation_day_slot (post_id, slot_date, reservation_id) VALUES (?, ?, ?)", args);
+    }
+
+    public void release(Long reservationId) {
+        jdbcTemplate.update("DELETE FROM reservation_day_slot WHERE reservation_id = ?", reservationId);
+    }
+
+    public void releaseAll(Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate("DELETE FROM reservation_day_slot WHERE reservation_id = ?",
+                reservationIds.stream().map(id -> new Object[]{id}).toList());
+    }
+}
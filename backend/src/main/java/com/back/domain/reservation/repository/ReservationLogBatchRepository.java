@@ -0,0 +1,32 @@
+package com.back.domain.reservation.repository;
+
+import com.back.domain.reservation.common.ReservationStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationLogBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 상태로 전환된 예약들의 로그를 JDBC 배치로 저장 (호출한 트랜잭션에 참여)
+     */
+    public void insertAll(Collection<Long> reservationIds, ReservationStatus status, Long authorId) {
+        if (reservationIds.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO reservation_log (created_at, modified_at, status, reservation_id, author_id) VALUES (?, ?, ?, ?, ?)",
+                reservationIds.stream().map(id -> new Object[]{now, now, status.name(), id, authorId}).toList());
+    }
+}
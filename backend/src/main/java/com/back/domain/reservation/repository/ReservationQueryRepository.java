@@ -3,10 +3,15 @@ package com.back.domain.reservation.repository;
 import com.back.domain.member.entity.Member;
 import com.back.domain.member.entity.QMember;
 import com.back.domain.post.entity.Post;
+import com.back.domain.post.repository.PostTitleSearch;
 import com.back.domain.reservation.common.ReservationStatus;
+import com.back.domain.reservation.dto.ReservationTransitionTargetDto;
 import com.back.domain.reservation.entity.Reservation;
+import com.back.domain.reservation.entity.ReservationDaySlot;
 import com.back.global.app.mcp.dto.CategoryStatsDto;
 import com.back.global.queryDsl.CustomQuerydslRepositorySupport;
+import com.back.global.queryDsl.Keyset;
+import com.back.standard.util.page.CursorSlice;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
@@ -55,13 +60,7 @@ public class ReservationQueryRepository extends CustomQuerydslRepositorySupport{
                 .where(
                         postIdEq(postId),
                         excludeReservationIdNe(excludeReservationId),
-                        statusNotIn(
-                                ReservationStatus.PENDING_APPROVAL,
-                                ReservationStatus.CANCELLED,
-                                ReservationStatus.REJECTED,
-                                ReservationStatus.REFUND_COMPLETED,
-                                ReservationStatus.CLAIM_COMPLETED
-                        ),
+                        statusNotIn(OVERLAP_EXCLUDED_STATUSES.toArray(new ReservationStatus[0])),
                         dateOverlap(startAt, endAt)
                 )
                 .fetchFirst();
@@ -135,6 +134,26 @@ public class ReservationQueryRepository extends CustomQuerydslRepositorySupport{
         );
     }
 
+    public CursorSlice<Reservation> findByAuthorByCursor(
+            Member author,
+            List<ReservationStatus> status,
+            String keyword,
+            String cursor,
+            int size) {
+
+        return applyCursorPagination(cursor, size, Keyset.byIdDesc(reservation.id, Reservation::getId),
+                queryFactory -> queryFactory
+                        .selectFrom(reservation)
+                        .leftJoin(reservation.post, post).fetchJoin()
+                        .leftJoin(post.author, member).fetchJoin()
+                        .where(
+                                reservation.author.eq(author),
+                                statusIn(status),
+                                postTitleContains(keyword)
+                        )
+        );
+    }
+
     public Page<Reservation> findByPostWithFetch(
             Post post,
             ReservationStatus status,
@@ -176,16 +195,43 @@ public class ReservationQueryRepository extends CustomQuerydslRepositorySupport{
                 .fetch();
     }
     
-    public List<Reservation> findWithPostAndAuthorByStatus(ReservationStatus status) {
-        return select(reservation)
+    /**
+     * 배치 상태 전환 대상을 id 오름차순 keyset 으로 limit 건씩 조회 (엔티티 대신 필요한 ID 만)
+     */
+    public List<ReservationTransitionTargetDto> findTransitionTargets(ReservationStatus status, long afterId, int limit) {
+        return select(Projections.constructor(ReservationTransitionTargetDto.class,
+                        reservation.id, reservation.post.id, reservation.author.id, post.author.id))
                 .from(reservation)
-                .leftJoin(reservation.author, new QMember("reservationAuthor"))
-                .fetchJoin()
-                .leftJoin(reservation.post, post)
-                .fetchJoin()
-                .leftJoin(post.author, new QMember("postAuthor"))
-                .fetchJoin()
-                .where(reservation.status.eq(status))
+                .join(reservation.post, post)
+                .where(reservation.status.eq(status), reservation.id.gt(afterId))
+                .orderBy(reservation.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * from 상태인 예약만 to 상태로 벌크 변경 (그 사이 다른 경로로 상태가 바뀐 예약은 건너뜀)
+     */
+    public long bulkUpdateStatus(List<Long> reservationIds, ReservationStatus from, ReservationStatus to) {
+        if (reservationIds.isEmpty()) {
+            return 0L;
+        }
+
+        return getQueryFactory().update(reservation)
+                .set(reservation.status, to)
+                .set(reservation.modifiedAt, LocalDateTime.now())
+                .where(reservation.id.in(reservationIds), reservation.status.eq(from))
+                .execute();
+    }
+
+    public List<Long> findIdsByIdInAndStatus(List<Long> reservationIds, ReservationStatus status) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+
+        return select(reservation.id)
+                .from(reservation)
+                .where(reservation.id.in(reservationIds), reservation.status.eq(status))
                 .fetch();
     }
 
@@ -215,12 +261,17 @@ public class ReservationQueryRepository extends CustomQuerydslRepositorySupport{
                 : null;
     }
 
+    // 일자 슬롯과 같은 일 단위 기준: 점유 날짜 범위가 하루라도 겹치면 중복 (ReservationDaySlot 참고)
     private BooleanExpression dateOverlap(LocalDateTime startAt, LocalDateTime endAt) {
         if (startAt == null || endAt == null) {
             return null;
         }
-        return reservation.reservationStartAt.lt(endAt)
-                .and(reservation.reservationEndAt.goe(startAt));
+        LocalDateTime rangeStart = ReservationDaySlot.firstDay(startAt).atStartOfDay();
+        LocalDateTime rangeEnd = ReservationDaySlot.lastDay(startAt, endAt).plusDays(1).atStartOfDay();
+
+        return reservation.reservationStartAt.lt(rangeEnd)
+                .and(reservation.reservationEndAt.gt(rangeStart)
+                        .or(reservation.reservationStartAt.goe(rangeStart)));
     }
 
     private BooleanExpression statusEq(ReservationStatus status) {
@@ -241,9 +292,7 @@ public class ReservationQueryRepository extends CustomQuerydslRepositorySupport{
     }
 
     private BooleanExpression postTitleContains(String keyword) {
-        return keyword != null && !keyword.isBlank()
-                ? reservation.post.title.containsIgnoreCase(keyword)
-                : null;
+        return PostTitleSearch.titleMatches(reservation.post.id, reservation.post.title, keyword);
     }
 
     public Map<ReservationStatus, Integer> countStatusesByAuthor(Member author) {
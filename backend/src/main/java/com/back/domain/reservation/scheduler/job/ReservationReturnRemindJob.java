@@ -1,6 +1,7 @@
 package com.back.domain.reservation.scheduler.job;
 
 import com.back.domain.notification.common.NotificationType;
+import com.back.domain.notification.dto.NotificationRequest;
 import com.back.domain.notification.service.NotificationService;
 import com.back.domain.reservation.common.ReservationStatus;
 import com.back.domain.reservation.entity.Reservation;
@@ -40,19 +41,19 @@ public class ReservationReturnRemindJob implements Job {
             return;
         }
 
-        for (Reservation reservation : targets) {
-            try {
-                Long memberId = reservation.getAuthor().getId();
-                notificationService.saveAndSendNotification(
-                        memberId,
+        List<NotificationRequest> requests = targets.stream()
+                .map(reservation -> new NotificationRequest(
+                        reservation.getAuthor().getId(),
                         NotificationType.REMIND_RETURN_DUE,
                         reservation.getId()
-                );
-
-                log.info("[REMIND JOB] 알림 전송 : reservationId = {}, memberId = {}", reservation.getId(), memberId);
-            } catch (Exception e) {
-                log.error("[REMIND JOB] 알림 실패 : reservationId = {}", reservation.getId(), e);
-            }
+                ))
+                .toList();
+
+        try {
+            notificationService.saveAndSendNotifications(requests);
+            log.info("[REMIND JOB] 알림 전송 : {}건", requests.size());
+        } catch (Exception e) {
+            log.error("[REMIND JOB] 알림 실패 : {}건", requests.size(), e);
         }
     }
 }
\ No newline at end of file
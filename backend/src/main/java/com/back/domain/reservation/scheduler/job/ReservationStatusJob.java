@@ -1,6 +1,8 @@
 package com.back.domain.reservation.scheduler.job;
 
-import com.back.domain.reservation.service.ReservationService;
+import com.back.domain.notification.common.NotificationType;
+import com.back.domain.reservation.common.ReservationStatus;
+import com.back.domain.reservation.service.ReservationBatchTransitionService;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
@@ -10,12 +12,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 @Slf4j
 public class ReservationStatusJob implements Job {
     @Autowired
-    private ReservationService reservationService;
+    private ReservationBatchTransitionService reservationBatchTransitionService;
 
     @Override
     public void execute(JobExecutionContext context) throws JobExecutionException {
         try {
-            reservationService.updateReservationStatuses();
+            reservationBatchTransitionService.transitionAll(ReservationStatus.CLAIMING,
+                    ReservationStatus.CLAIM_COMPLETED, NotificationType.RESERVATION_CLAIM_COMPLETED);
+
+            reservationBatchTransitionService.transitionAll(ReservationStatus.PENDING_REFUND,
+                    ReservationStatus.REFUND_COMPLETED, NotificationType.RESERVATION_REFUND_COMPLETED);
         } catch (Exception e) {
             log.error("예약 상태 자동 업데이트 중 오류 발생", e);
             throw new JobExecutionException(e);
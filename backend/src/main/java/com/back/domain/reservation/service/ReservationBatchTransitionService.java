@@ -0,0 +1,136 @@
+package com.back.domain.reservation.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.back.domain.notification.common.NotificationType;
+import com.back.domain.notification.dto.NotificationRequest;
+import com.back.domain.notification.service.NotificationService;
+import com.back.domain.post.service.PostCalendarIndex;
+import com.back.domain.reservation.common.ReservationStatus;
+import com.back.domain.reservation.dto.ReservationTransitionTargetDto;
+import com.back.domain.reservation.entity.ReservationLog;
+import com.back.domain.reservation.repository.ReservationDaySlotRepository;
+import com.back.domain.reservation.repository.ReservationLogBatchRepository;
+import com.back.domain.reservation.repository.ReservationQueryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스케줄러용 예약 상태 일괄 전환.
+ * 대상을 id keyset 으로 CHUNK_SIZE 건씩 읽고, 청크마다 짧은 트랜잭션에서 벌크 UPDATE 와 로그 배치 INSERT 를 수행한다.
+ * 알림은 청크 커밋 이후 일괄 발송한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationBatchTransitionService {
+
+	private static final int CHUNK_SIZE = 500;
+
+	private final ReservationQueryRepository reservationQueryRepository;
+	private final ReservationLogBatchRepository reservationLogBatchRepository;
+	private final ReservationDaySlotRepository reservationDaySlotRepository;
+	private final PostCalendarIndex postCalendarIndex;
+	private final NotificationService notificationService;
+	private final TransactionTemplate transactionTemplate;
+
+	private record ChunkResult(int fetched, long lastId, int transitioned, List<NotificationRequest> notifications) {
+	}
+
+	/**
+	 * from 상태의 모든 예약을 to 상태로 전환하고 게스트·호스트에게 알림을 보낸다.
+	 * @return 실제로 전환된 예약 수
+	 */
+	public int transitionAll(ReservationStatus from, ReservationStatus to, NotificationType notificationType) {
+		if (!from.canTransitionTo(to)) {
+			throw new IllegalArgumentException("허용되지 않은 상태 전환입니다: %s -> %s".formatted(from, to));
+		}
+
+		int transitioned = 0;
+		long afterId = 0L;
+
+		while (true) {
+			long cursor = afterId;
+			ChunkResult chunk = transactionTemplate.execute(status -> transitionChunk(from, to, notificationType, cursor));
+
+			if (chunk == null || chunk.fetched() == 0) {
+				break;
+			}
+
+			transitioned += chunk.transitioned();
+			sendNotifications(chunk.notifications());
+
+			if (chunk.fetched() < CHUNK_SIZE) {
+				break;
+			}
+			afterId = chunk.lastId();
+		}
+
+		log.info("{} → {} 상태 변경 완료 - 처리 건수: {}", from, to, transitioned);
+		return transitioned;
+	}
+
+	private ChunkResult transitionChunk(ReservationStatus from, ReservationStatus to,
+		NotificationType notificationType, long afterId) {
+
+		List<ReservationTransitionTargetDto> targets = reservationQueryRepository.findTransitionTargets(from, afterId,
+			CHUNK_SIZE);
+		if (targets.isEmpty()) {
+			return new ChunkResult(0, afterId, 0, List.of());
+		}
+
+		List<Long> ids = targets.stream().map(ReservationTransitionTargetDto::id).toList();
+		long lastId = ids.get(ids.size() - 1);
+
+		reservationQueryRepository.bulkUpdateStatus(ids, from, to);
+
+		// 조회 이후 다른 경로로 상태가 바뀐 예약은 제외하고 실제 전환된 것만 후처리
+		Set<Long> transitionedIds = new HashSet<>(reservationQueryRepository.findIdsByIdInAndStatus(ids, to));
+		List<ReservationTransitionTargetDto> transitioned = targets.stream()
+			.filter(target -> transitionedIds.contains(target.id()))
+			.toList();
+
+		List<Long> transitionedIdList = transitioned.stream().map(ReservationTransitionTargetDto::id).toList();
+
+		reservationLogBatchRepository.insertAll(transitionedIdList, to, ReservationLog.SYSTEM_AUTHOR_ID);
+
+		if (from.holdsDaySlots() && !to.holdsDaySlots()) {
+			reservationDaySlotRepository.releaseAll(transitionedIdList);
+		}
+
+		if (from.occupiesPeriod() && !to.occupiesPeriod()) {
+			transitioned.stream()
+				.map(ReservationTransitionTargetDto::postId)
+				.distinct()
+				.forEach(postCalendarIndex::evictAfterCommit);
+		}
+
+		List<NotificationRequest> notifications = new ArrayList<>(transitioned.size() * 2);
+		for (ReservationTransitionTargetDto target : transitioned) {
+			notifications.add(new NotificationRequest(target.guestId(), notificationType, target.id()));
+			notifications.add(new NotificationRequest(target.hostId(), notificationType, target.id()));
+		}
+
+		return new ChunkResult(targets.size(), lastId, transitioned.size(), notifications);
+	}
+
+	private void sendNotifications(List<NotificationRequest> notifications) {
+		if (notifications.isEmpty()) {
+			return;
+		}
+
+		try {
+			notificationService.saveAndSendNotifications(notifications);
+		} catch (Exception e) {
+			// 상태 전환은 이미 커밋되었으므로 알림 실패로 배치를 중단하지 않음
+			log.error("예약 상태 전환 알림 발송 실패 - 건수: {}", notifications.size(), e);
+		}
+	}
+}
@@ -9,6 +9,8 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -24,6 +26,7 @@ import com.back.domain.post.common.ReceiveMethod;
 import com.back.domain.post.common.ReturnMethod;
 import com.back.domain.post.entity.Post;
 import com.back.domain.post.entity.PostOption;
+import com.back.domain.post.service.PostCalendarIndex;
 import com.back.domain.post.service.PostService;
 import com.back.domain.reservation.common.ReservationDeliveryMethod;
 import com.back.domain.reservation.common.ReservationStatus;
@@ -40,6 +43,7 @@ import com.back.domain.reservation.dto.UpdateReservationStatusReqBody;
 import com.back.domain.reservation.entity.Reservation;
 import com.back.domain.reservation.entity.ReservationLog;
 import com.back.domain.reservation.entity.ReservationOption;
+import com.back.domain.reservation.repository.ReservationDaySlotRepository;
 import com.back.domain.reservation.repository.ReservationLogRepository;
 import com.back.domain.reservation.repository.ReservationQueryRepository;
 import com.back.domain.reservation.repository.ReservationRepository;
@@ -47,6 +51,9 @@ import com.back.domain.reservation.scheduler.ReservationRemindScheduler;
 import com.back.domain.review.repository.ReviewQueryRepository;
 import com.back.global.exception.ServiceException;
 import com.back.global.s3.S3Uploader;
+import com.back.standard.util.page.CursorPayload;
+import com.back.standard.util.page.CursorSlice;
+import com.back.standard.util.page.CursorUt;
 import com.back.standard.util.page.PagePayload;
 import com.back.standard.util.page.PageUt;
 
@@ -60,9 +67,11 @@ public class ReservationService {
 	private final ReservationRepository reservationRepository;
 	private final ReservationQueryRepository reservationQueryRepository;
 	private final ReservationLogRepository reservationLogRepository;
+	private final ReservationDaySlotRepository reservationDaySlotRepository;
 	private final ReviewQueryRepository reviewQueryRepository;
 	private final MemberRepository memberRepository;
 	private final PostService postService;
+	private final PostCalendarIndex postCalendarIndex;
 	private final S3Uploader s3;
 
 	private final ReservationRemindScheduler reminderScheduler;
@@ -221,33 +230,59 @@ public class ReservationService {
 		Set<Long> reviewedReservationIds = reviewQueryRepository.findReviewedReservationIds(reservationIds,
 			author.getId());
 
-		Page<GuestReservationSummaryResBody> reservationSummaryDtoPage = reservationPage.map(reservation -> {
-			Post post = reservation.getPost();
-			List<ReservationOption> options = reservation.getReservationOptions();
+		Page<GuestReservationSummaryResBody> reservationSummaryDtoPage = reservationPage.map(
+			reservation -> toGuestReservationSummary(reservation, reviewedReservationIds));
 
-			int totalAmount = calculateTotalAmount(reservation, post, options);
-			GuestReservationSummaryResBody.ReservationPostSummaryDto postSummary = createPostSummaryDto(post);
+		return PageUt.of(reservationSummaryDtoPage);
+	}
 
-			List<OptionDto> optionDtos = options.stream()
-				.map(ro -> new OptionDto(
-					ro.getPostOption().getId(),
-					ro.getPostOption().getName()
-				))
-				.toList();
+	@Transactional(readOnly = true)
+	public CursorPayload<GuestReservationSummaryResBody> getSentReservationsByCursor(
+		Member author,
+		String cursor,
+		int size,
+		List<ReservationStatus> status,
+		String keyword) {
 
-			// Set에 해당 예약 ID가 포함되어 있는지 확인하여 hasReview 설정
-			boolean hasReview = reviewedReservationIds.contains(reservation.getId());
+		CursorSlice<Reservation> reservationSlice = reservationQueryRepository.findByAuthorByCursor(author, status,
+			keyword, cursor, size);
 
-			return new GuestReservationSummaryResBody(
-				reservation,
-				postSummary,
-				optionDtos,
-				totalAmount,
-				hasReview
-			);
-		});
+		List<Long> reservationIds = reservationSlice.content().stream()
+			.map(Reservation::getId)
+			.toList();
 
-		return PageUt.of(reservationSummaryDtoPage);
+		Set<Long> reviewedReservationIds = reviewQueryRepository.findReviewedReservationIds(reservationIds,
+			author.getId());
+
+		return CursorUt.of(
+			reservationSlice.map(reservation -> toGuestReservationSummary(reservation, reviewedReservationIds)));
+	}
+
+	private GuestReservationSummaryResBody toGuestReservationSummary(Reservation reservation,
+		Set<Long> reviewedReservationIds) {
+		Post post = reservation.getPost();
+		List<ReservationOption> options = reservation.getReservationOptions();
+
+		int totalAmount = calculateTotalAmount(reservation, post, options);
+		GuestReservationSummaryResBody.ReservationPostSummaryDto postSummary = createPostSummaryDto(post);
+
+		List<OptionDto> optionDtos = options.stream()
+			.map(ro -> new OptionDto(
+				ro.getPostOption().getId(),
+				ro.getPostOption().getName()
+			))
+			.toList();
+
+		// Set에 해당 예약 ID가 포함되어 있는지 확인하여 hasReview 설정
+		boolean hasReview = reviewedReservationIds.contains(reservation.getId());
+
+		return new GuestReservationSummaryResBody(
+			reservation,
+			postSummary,
+			optionDtos,
+			totalAmount,
+			hasReview
+		);
 	}
 
 	/**
@@ -376,6 +411,9 @@ public class ReservationService {
 		// 상태 변경 권한 체크
 		validateStatusTransitionPermission(reqBody.status(), isHost, isGuest);
 
+		boolean wasOccupying = reservation.getStatus().occupiesPeriod();
+		boolean wasHoldingSlots = reservation.getStatus().holdsDaySlots();
+
 		// 상태별 처리
 		switch (reqBody.status()) {
 			// 추가 데이터가 필요한 경우
@@ -401,11 +439,9 @@ public class ReservationService {
 				}
 			}
 
-			// PENDING_RETURN 상태로 전환 시 중복 예약 체크 (비관적 락)
+			// PENDING_PAYMENT 상태로 전환 시 중복 예약 체크
+			// 최종 판정은 아래 일자 슬롯 점유(유니크 제약)가 하고, 여기서는 락 없이 빠르게 실패시킨다
 			case PENDING_PAYMENT -> {
-				// Post 엔티티를 락을 걸고 조회
-				Post post = postService.getByIdWithLock(reservation.getPost().getId());
-
 				boolean hasConflicts = reservationQueryRepository.existsOverlappingReservation(
 					reservation.getPost().getId(),
 					reservation.getReservationStartAt(),
@@ -438,6 +474,22 @@ public class ReservationService {
 
 		Reservation r = reservationRepository.save(reservation);
 
+		// 일자 슬롯 점유/해제 (기간 점유 여부가 바뀐 경우만)
+		if (!wasHoldingSlots && r.getStatus().holdsDaySlots()) {
+			claimDaySlots(r);
+		} else if (wasHoldingSlots && !r.getStatus().holdsDaySlots()) {
+			reservationDaySlotRepository.release(r.getId());
+		}
+
+		// 예약 달력 반영 (점유 여부가 바뀐 경우만)
+		boolean occupying = r.getStatus().occupiesPeriod();
+		if (!wasOccupying && occupying) {
+			postCalendarIndex.markReservedAfterCommit(r.getPost().getId(), r.getReservationStartAt(),
+				r.getReservationEndAt());
+		} else if (wasOccupying && !occupying) {
+			postCalendarIndex.evictAfterCommit(r.getPost().getId());
+		}
+
 		// 상태 전환 로그 저장
 		ReservationLog log = new ReservationLog(reservation.getStatus(), reservation, memberId);
 		reservationLogRepository.save(log);
@@ -453,6 +505,19 @@ public class ReservationService {
 		return convertToReservationDto(r);
 	}
 
+	/**
+	 * 예약 기간의 일자 슬롯을 점유한다. 같은 게시글·날짜를 다른 예약이 먼저 점유했다면
+	 * (post_id, slot_date) 유니크 제약 위반으로 실패하므로 게시글 행 락 없이 이중 예약을 막는다.
+	 */
+	private void claimDaySlots(Reservation reservation) {
+		try {
+			reservationDaySlotRepository.claim(reservation.getId(), reservation.getPost().getId(),
+				reservation.getReservationStartAt(), reservation.getReservationEndAt());
+		} catch (DuplicateKeyException | PessimisticLockingFailureException e) {
+			throw new ServiceException(HttpStatus.CONFLICT, "해당 기간에 이미 승인된 예약이 있습니다.");
+		}
+	}
+
 	private void validateStatusTransitionPermission(ReservationStatus targetStatus, boolean isHost, boolean isGuest) {
 		switch (targetStatus.getStatusSubject()) {
 			case HOST -> {
@@ -580,7 +645,8 @@ public class ReservationService {
 				String authorNickname = authorNicknameMap.get(log.getAuthorId());
 				// 기본값 처리(탈퇴/없음 등) 하고 싶다면 여기서
 				if (authorNickname == null) {
-					authorNickname = "알 수 없는 사용자";
+					authorNickname = Objects.equals(log.getAuthorId(), ReservationLog.SYSTEM_AUTHOR_ID)
+						? "시스템" : "알 수 없는 사용자";
 				}
 				return new ReservationLogDto(log, authorNickname);
 			})
@@ -597,42 +663,6 @@ public class ReservationService {
 		);
 	}
 
-	@Transactional
-	public void updateReservationStatuses() {
-		updateClaimingStatus();
-		updatePendingRefundStatus();
-	}
-
-	private void updateClaimingStatus() {
-		List<Reservation> reservations = reservationQueryRepository.findWithPostAndAuthorByStatus(
-			ReservationStatus.CLAIMING);
-
-		reservations.forEach(reservation -> {
-			reservation.changeStatus(ReservationStatus.CLAIM_COMPLETED);
-			notificationService.saveAndSendNotification(reservation.getAuthor().getId(),
-				NotificationType.RESERVATION_CLAIM_COMPLETED, reservation.getId());
-			notificationService.saveAndSendNotification(reservation.getPost().getAuthor().getId(),
-				NotificationType.RESERVATION_CLAIM_COMPLETED, reservation.getId());
-		});
-
-		log.info("CLAIMING → CLAIM_COMPLETED 상태 변경 완료 - 처리 건수: {}", reservations.size());
-	}
-
-	private void updatePendingRefundStatus() {
-		List<Reservation> reservations = reservationQueryRepository.findWithPostAndAuthorByStatus(
-			ReservationStatus.CLAIMING);
-
-		reservations.forEach(reservation -> {
-			reservation.changeStatus(ReservationStatus.REFUND_COMPLETED);
-			notificationService.saveAndSendNotification(reservation.getAuthor().getId(),
-				NotificationType.RESERVATION_REFUND_COMPLETED, reservation.getId());
-			notificationService.saveAndSendNotification(reservation.getPost().getAuthor().getId(),
-				NotificationType.RESERVATION_REFUND_COMPLETED, reservation.getId());
-		});
-
-		log.info("PENDING_REFUND → REFUND_COMPLETED 상태 변경 완료 - 처리 건수: {}", reservations.size());
-	}
-
 	@Transactional(readOnly = true)
 	public ReservationStatusResBody getSentReservationsStatusCount(Member author) {
 		Map<ReservationStatus, Integer> statusCounts = reservationQueryRepository.countStatusesByAuthor(author);
@@ -0,0 +1,56 @@
+package com.back.global.hierarchy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link HierarchySnapshot} 을 지연 생성해 보관한다.
+ * 트리가 변경되면 {@link HierarchyInvalidator} 가 모든 인스턴스의 스냅샷을 비운다.
+ */
+public abstract class HierarchyHolder {
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile HierarchySnapshot snapshot;
+
+    /**
+     * 무효화 메시지에서 대상을 구분하는 이름
+     */
+    public abstract String name();
+
+    protected abstract HierarchySnapshot load();
+
+    public List<Long> expand(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return ids;
+        }
+
+        return current().expand(ids);
+    }
+
+    private HierarchySnapshot current() {
+        HierarchySnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (snapshot != null) {
+                return snapshot;
+            }
+
+            long loadedAt = generation.get();
+            HierarchySnapshot loaded = load();
+
+            // 로딩 중 무효화가 들어왔다면 오래된 스냅샷이므로 보관하지 않음
+            if (generation.get() == loadedAt) {
+                snapshot = loaded;
+            }
+            return loaded;
+        }
+    }
+
+    void evict() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.back.global.hierarchy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 트리 변경을 Redis Pub/Sub 으로 전파해 모든 서버의 {@link HierarchyHolder} 스냅샷을 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HierarchyInvalidator implements MessageListener {
+
+    private static final ChannelTopic TOPIC = new ChannelTopic("hierarchy:invalidate");
+
+    private final List<HierarchyHolder> holders;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, TOPIC);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 무효화한다. 트랜잭션 밖이면 즉시 무효화한다.
+     */
+    public void invalidateAfterCommit(HierarchyHolder holder) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(holder);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(holder);
+            }
+        });
+    }
+
+    private void invalidate(HierarchyHolder holder) {
+        holder.evict();
+
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC.getTopic(), holder.name());
+        } catch (Exception e) {
+            log.error("Failed to publish hierarchy invalidation: {}", holder.name(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String name = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        holders.stream()
+                .filter(holder -> holder.name().equals(name))
+                .forEach(HierarchyHolder::evict);
+    }
+}
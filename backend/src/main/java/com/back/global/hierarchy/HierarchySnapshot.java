@@ -0,0 +1,63 @@
+package com.back.global.hierarchy;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 트리 구조(지역, 카테고리)의 불변 스냅샷.
+ * 노드 ID -> 자기 자신을 포함한 하위 노드 ID 집합을 미리 계산해 두어 확장을 O(1) 조회로 처리한다.
+ */
+public final class HierarchySnapshot {
+
+    private final Map<Long, Set<Long>> selfAndDescendants;
+
+    private HierarchySnapshot(Map<Long, Set<Long>> selfAndDescendants) {
+        this.selfAndDescendants = selfAndDescendants;
+    }
+
+    public static <T> HierarchySnapshot of(List<T> roots, Function<T, Long> idOf,
+                                           Function<T, ? extends Collection<T>> childrenOf) {
+        Map<Long, Set<Long>> result = new HashMap<>();
+
+        for (T root : roots) {
+            collect(root, idOf, childrenOf, result);
+        }
+
+        Map<Long, Set<Long>> frozen = new HashMap<>();
+        result.forEach((id, ids) -> frozen.put(id, Set.copyOf(ids)));
+
+        return new HierarchySnapshot(Map.copyOf(frozen));
+    }
+
+    private static <T> Set<Long> collect(T node, Function<T, Long> idOf,
+                                         Function<T, ? extends Collection<T>> childrenOf,
+                                         Map<Long, Set<Long>> result) {
+        Set<Long> ids = new LinkedHashSet<>();
+        ids.add(idOf.apply(node));
+
+        for (T child : childrenOf.apply(node)) {
+            ids.addAll(collect(child, idOf, childrenOf, result));
+        }
+
+        result.put(idOf.apply(node), ids);
+        return ids;
+    }
+
+    /**
+     * 주어진 ID 들을 하위 노드까지 펼친다. 스냅샷에 없는 ID 는 그대로 유지한다.
+     */
+    public List<Long> expand(Collection<Long> ids) {
+        Set<Long> expanded = new LinkedHashSet<>();
+
+        for (Long id : ids) {
+            expanded.addAll(selfAndDescendants.getOrDefault(id, Set.of(id)));
+        }
+
+        return List.copyOf(expanded);
+    }
+}
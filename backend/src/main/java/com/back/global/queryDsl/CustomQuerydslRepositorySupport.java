@@ -1,5 +1,9 @@
 package com.back.global.queryDsl;
 
+import com.back.global.exception.ServiceException;
+import com.back.standard.util.page.CursorSlice;
+import com.back.standard.util.page.CursorUt;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.PathBuilder;
@@ -10,18 +14,25 @@ import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
 import org.springframework.data.jpa.repository.support.Querydsl;
 import org.springframework.data.querydsl.SimpleEntityPathResolver;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.util.Assert;
 
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 public abstract class CustomQuerydslRepositorySupport {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final Class<?> domainClass;
 
     private Querydsl querydsl;
@@ -77,11 +88,76 @@ public abstract class CustomQuerydslRepositorySupport {
                                           Function<JPAQueryFactory, JPAQuery<T>> contentQuery,
                                           Function<JPAQueryFactory, JPAQuery<Long>> countQuery) {
 
-        JPAQuery<T> jpaQuery = contentQuery.apply(getQueryFactory());
         JPAQuery<Long> count = countQuery.apply(getQueryFactory());
 
+        return applyPagination(pageable, contentQuery, count::fetchOne);
+    }
+
+    /**
+     * 전체 개수를 외부(캐시 등)에서 공급받는 페이지네이션. 마지막 페이지가 명확하면 totalCount 는 호출되지 않는다.
+     */
+    protected <T> Page<T> applyPagination(Pageable pageable,
+                                          Function<JPAQueryFactory, JPAQuery<T>> contentQuery,
+                                          LongSupplier totalCount) {
+
+        JPAQuery<T> jpaQuery = contentQuery.apply(getQueryFactory());
+
         List<T> content = getQuerydsl().applyPagination(pageable, jpaQuery).fetch();
 
-        return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
+        return PageableExecutionUtils.getPage(content, pageable, totalCount);
+    }
+
+    /**
+     * COUNT 없이 size + 1 건을 조회해 다음 페이지 존재 여부만 판단한다.
+     */
+    protected <T> Slice<T> applySlicePagination(Pageable pageable,
+                                                Function<JPAQueryFactory, JPAQuery<T>> contentQuery) {
+
+        JPAQuery<T> jpaQuery = contentQuery.apply(getQueryFactory());
+
+        List<T> rows = getQuerydsl().applyPagination(pageable, jpaQuery)
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * 커서 페이지 크기를 1 ~ MAX_CURSOR_PAGE_SIZE 로 보정
+     */
+    protected int cursorPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    /**
+     * 커서 기반 페이지네이션. OFFSET/COUNT 없이 (정렬 키, id) seek 조건으로 size + 1 건만 조회한다.
+     * contentQuery에는 정렬을 지정하지 않는다 (keyset 정렬이 적용됨).
+     */
+    protected <T> CursorSlice<T> applyCursorPagination(String cursor, int size, Keyset<T, ?> keyset,
+                                                       Function<JPAQueryFactory, JPAQuery<T>> contentQuery) {
+
+        int limit = cursorPageSize(size);
+
+        BooleanExpression seek;
+        try {
+            seek = keyset.seek(CursorUt.decode(cursor));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ServiceException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+
+        List<T> rows = contentQuery.apply(getQueryFactory())
+                .where(seek)
+                .orderBy(keyset.orderSpecifiers())
+                .limit(limit + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > limit;
+        List<T> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? keyset.cursorOf(content.get(content.size() - 1)) : null;
+
+        return new CursorSlice<>(content, limit, hasNext, nextCursor);
     }
 }
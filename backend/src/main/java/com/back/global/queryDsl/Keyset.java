@@ -0,0 +1,110 @@
+package com.back.global.queryDsl;
+
+import com.back.standard.util.page.CursorUt;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 커서 페이지네이션의 (정렬 키, id) 탐색 조건 정의.
+ * 정렬 키가 같은 행은 id로 순서를 고정하므로 id는 반드시 유일해야 한다.
+ */
+public record Keyset<T, K extends Comparable<?>>(
+        ComparableExpressionBase<K> sortKey,
+        Class<K> sortKeyType,
+        NumberPath<Long> id,
+        Order direction,
+        boolean nullsLast,
+        Function<T, K> sortKeyOf,
+        Function<T, Long> idOf
+) {
+
+    public static <T> Keyset<T, Long> byIdDesc(NumberPath<Long> id, Function<T, Long> idOf) {
+        return new Keyset<>(id, Long.class, id, Order.DESC, false, idOf, idOf);
+    }
+
+    public static <T, K extends Comparable<?>> Keyset<T, K> desc(
+            ComparableExpressionBase<K> sortKey, Class<K> sortKeyType, NumberPath<Long> id,
+            Function<T, K> sortKeyOf, Function<T, Long> idOf) {
+        return new Keyset<>(sortKey, sortKeyType, id, Order.DESC, false, sortKeyOf, idOf);
+    }
+
+    public static <T, K extends Comparable<?>> Keyset<T, K> descNullsLast(
+            ComparableExpressionBase<K> sortKey, Class<K> sortKeyType, NumberPath<Long> id,
+            Function<T, K> sortKeyOf, Function<T, Long> idOf) {
+        return new Keyset<>(sortKey, sortKeyType, id, Order.DESC, true, sortKeyOf, idOf);
+    }
+
+    private boolean sortsById() {
+        return sortKey.equals(id);
+    }
+
+    OrderSpecifier<?>[] orderSpecifiers() {
+        if (sortsById()) {
+            return new OrderSpecifier<?>[]{new OrderSpecifier<>(direction, id)};
+        }
+
+        OrderSpecifier.NullHandling nullHandling = nullsLast
+                ? OrderSpecifier.NullHandling.NullsLast
+                : OrderSpecifier.NullHandling.Default;
+
+        return new OrderSpecifier<?>[]{
+                new OrderSpecifier<>(direction, sortKey, nullHandling),
+                new OrderSpecifier<>(direction, id)
+        };
+    }
+
+    /**
+     * 커서 이후 행만 남기는 seek 조건. 첫 페이지(커서 없음)면 null.
+     */
+    BooleanExpression seek(CursorUt.Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        Ops op = direction == Order.DESC ? Ops.LT : Ops.GT;
+        BooleanExpression idAfter = Expressions.booleanOperation(op, id, Expressions.constant(cursor.id()));
+
+        if (sortsById()) {
+            return idAfter;
+        }
+
+        if (cursor.sortValue() == null) {
+            // NULLS LAST 구간에 들어선 이후에는 id로만 이어서 조회
+            return sortKey.isNull().and(idAfter);
+        }
+
+        K key = parse(cursor.sortValue());
+        BooleanExpression after = Expressions.booleanOperation(op, sortKey, Expressions.constant(key))
+                .or(Expressions.booleanOperation(Ops.EQ, sortKey, Expressions.constant(key)).and(idAfter));
+
+        return nullsLast ? after.or(sortKey.isNull()) : after;
+    }
+
+    String cursorOf(T last) {
+        return CursorUt.encode(sortsById() ? null : sortKeyOf.apply(last), idOf.apply(last));
+    }
+
+    private K parse(String value) {
+        Object parsed;
+        if (sortKeyType == Long.class) {
+            parsed = Long.valueOf(value);
+        } else if (sortKeyType == Integer.class) {
+            parsed = Integer.valueOf(value);
+        } else if (sortKeyType == LocalDateTime.class) {
+            parsed = LocalDateTime.parse(value);
+        } else if (sortKeyType == String.class) {
+            parsed = value;
+        } else {
+            throw new IllegalArgumentException("Unsupported keyset sort key type: " + sortKeyType);
+        }
+        return sortKeyType.cast(parsed);
+    }
+}
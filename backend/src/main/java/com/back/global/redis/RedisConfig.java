@@ -62,6 +62,7 @@ public class RedisConfig {
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
         cacheConfigurations.put("postReviewSummary", redisCacheConfig.entryTtl(Duration.ofHours(24)));
         cacheConfigurations.put("memberReviewSummary", redisCacheConfig.entryTtl(Duration.ofHours(24)));
+        cacheConfigurations.put("postListCount", redisCacheConfig.entryTtl(Duration.ofSeconds(30)));
 
         return RedisCacheManager.builder(redisConnectionFactory)
                                 .cacheDefaults(redisCacheConfig)
@@ -1,5 +1,9 @@
 package com.back.global.sse;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -9,22 +13,75 @@ import java.util.concurrent.ConcurrentHashMap;
 @Component
 public class EmitterRepository {
 
-    private final Map<Long, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, SseConnection>> emitters = new ConcurrentHashMap<>();
 
-    public SseEmitter save(Long memberId, String emitterId, SseEmitter emitter) {
-        emitters.computeIfAbsent(memberId, id -> new ConcurrentHashMap<>())
-                .put(emitterId, emitter);
-        return emitter;
+    private final int queueCapacity;
+    private final Counter droppedCounter;
+
+    public EmitterRepository(
+            MeterRegistry meterRegistry,
+            @Value("${custom.sse.queue-capacity:32}") int queueCapacity
+    ) {
+        this.queueCapacity = queueCapacity;
+        this.droppedCounter = Counter.builder("sse.events.dropped")
+                .description("전송 큐가 가득 차 버려진 SSE 이벤트 수")
+                .register(meterRegistry);
+
+        Gauge.builder("sse.connections", this, EmitterRepository::connectionCount)
+                .description("이 서버에 연결된 SSE emitter 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.queue.depth", this, EmitterRepository::totalQueueDepth)
+                .description("SSE 전송 큐에 대기 중인 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * holding 이 true 면 {@link SseConnection#replayAndResume} 전까지 실시간 이벤트를 보류한다.
+     */
+    public SseConnection save(Long memberId, String emitterId, SseEmitter emitter, boolean holding) {
+        SseConnection connection = new SseConnection(memberId, emitterId, emitter, queueCapacity, droppedCounter, holding);
+        // 빈 맵 제거(deleteEmitter)와 겹쳐도 제거된 맵에 넣지 않도록 compute 안에서 추가한다
+        emitters.compute(memberId, (id, memberEmitters) -> {
+            Map<String, SseConnection> target = memberEmitters != null ? memberEmitters : new ConcurrentHashMap<>();
+            target.put(emitterId, connection);
+            return target;
+        });
+        return connection;
     }
 
-    public Map<String, SseEmitter> findEmittersByMemberId(Long memberId) {
-        return emitters.getOrDefault(memberId, new ConcurrentHashMap<>());
+    public Map<String, SseConnection> findEmittersByMemberId(Long memberId) {
+        return emitters.getOrDefault(memberId, Map.of());
     }
 
-    public void deleteEmitter(Long memberId, String emitterId) {
-        Map<String, SseEmitter> memberEmitters = emitters.get(memberId);
-        if (memberEmitters != null) {
-            memberEmitters.remove(emitterId);
+    /**
+     * emitter 를 제거하고 전송 스레드를 멈춘다. 실제로 제거되었으면 true 를 반환 (완료/타임아웃 콜백이 중복 호출될 수 있음)
+     */
+    public boolean deleteEmitter(Long memberId, String emitterId) {
+        SseConnection[] removed = {null};
+        emitters.computeIfPresent(memberId, (id, memberEmitters) -> {
+            removed[0] = memberEmitters.remove(emitterId);
+            return memberEmitters.isEmpty() ? null : memberEmitters;
+        });
+
+        if (removed[0] == null) {
+            return false;
         }
+        removed[0].close();
+        return true;
+    }
+
+    void heartbeatAll() {
+        emitters.values().forEach(memberEmitters -> memberEmitters.values().forEach(SseConnection::heartbeat));
+    }
+
+    private double connectionCount() {
+        return emitters.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private double totalQueueDepth() {
+        return emitters.values().stream()
+                .flatMap(memberEmitters -> memberEmitters.values().stream())
+                .mapToInt(SseConnection::queueDepth)
+                .sum();
     }
 }
@@ -0,0 +1,151 @@
+package com.back.global.sse;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * SSE emitter 하나와 전용 전송 큐.
+ * 이벤트는 큐에 쌓이고 연결마다 하나의 가상 스레드가 순서대로 전송하므로, 느린 클라이언트가 다른 연결이나 호출 스레드를 막지 않는다.
+ * 큐가 가득 차면 가장 오래된 이벤트를 버린다.
+ * 재연결 시에는 놓친 이벤트를 먼저 넣을 수 있도록 실시간 이벤트를 잠시 보류하고,
+ * 보류분 중 재전송한 마지막 id 이하인 이벤트만 건너뛴다. 평상시에는 id 로 거르지 않는다 (실시간 이벤트는 id 순서가 보장되지 않음).
+ */
+@Slf4j
+public class SseConnection {
+
+    @Getter
+    private final Long memberId;
+    @Getter
+    private final String emitterId;
+    @Getter
+    private final SseEmitter emitter;
+
+    private final BlockingDeque<SseEmitter.SseEventBuilder> queue;
+    private final Counter droppedCounter;
+    private final Thread sender;
+    private volatile boolean closed;
+
+    // 재전송이 끝날 때까지 보류 중인 실시간 이벤트 (보류 중이 아니면 null)
+    private List<SseEvent> held;
+
+    SseConnection(Long memberId, String emitterId, SseEmitter emitter, int queueCapacity, Counter droppedCounter,
+                  boolean holding) {
+        this.memberId = memberId;
+        this.emitterId = emitterId;
+        this.emitter = emitter;
+        this.queue = new LinkedBlockingDeque<>(queueCapacity);
+        this.droppedCounter = droppedCounter;
+        this.held = holding ? new ArrayList<>() : null;
+        this.sender = Thread.ofVirtual()
+                .name("sse-" + emitterId)
+                .start(this::drain);
+    }
+
+    /**
+     * 이벤트를 전송 큐에 넣는다. 큐가 가득 차면 가장 오래된 이벤트를 버리고 넣는다.
+     */
+    public void enqueue(SseEmitter.SseEventBuilder event) {
+        if (closed) {
+            return;
+        }
+
+        while (!queue.offerLast(event)) {
+            if (queue.pollFirst() != null) {
+                droppedCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * 실시간 이벤트를 보낸다. 재전송 중이면 끝날 때까지 보류한다.
+     */
+    public synchronized void send(SseEvent event) {
+        if (held != null) {
+            held.add(event);
+            return;
+        }
+        offer(event);
+    }
+
+    /**
+     * 놓친 이벤트(id 오름차순)를 먼저 넣고 보류했던 실시간 이벤트를 이어서 넣는다.
+     * 보류분 중 재전송한 마지막 id 이하인 이벤트는 재전송분과 중복이므로 건너뛴다.
+     */
+    public synchronized void replayAndResume(List<SseEvent> missed) {
+        String lastReplayedId = null;
+        for (SseEvent event : missed) {
+            offer(event);
+            if (event.id() != null) {
+                lastReplayedId = event.id();
+            }
+        }
+
+        if (held != null) {
+            for (SseEvent event : held) {
+                if (lastReplayedId != null && event.id() != null && compareIds(event.id(), lastReplayedId) <= 0) {
+                    continue;
+                }
+                offer(event);
+            }
+            held = null;
+        }
+    }
+
+    private void offer(SseEvent event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (event.id() != null) {
+            builder.id(event.id());
+        }
+        enqueue(builder.data(event.data(), MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * 보낼 이벤트가 없을 때만 하트비트 코멘트를 넣는다. 죽은 연결은 이 전송이 실패하면서 정리된다.
+     */
+    void heartbeat() {
+        if (!closed && queue.isEmpty()) {
+            queue.offerLast(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    void close() {
+        closed = true;
+        sender.interrupt();
+    }
+
+    private static int compareIds(String a, String b) {
+        RecordId left = RecordId.of(a);
+        RecordId right = RecordId.of(b);
+
+        int compared = Long.compare(left.getTimestamp(), right.getTimestamp());
+        return compared != 0 ? compared : Long.compare(left.getSequence(), right.getSequence());
+    }
+
+    private void drain() {
+        try {
+            while (!closed) {
+                emitter.send(queue.takeFirst());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 클라이언트 연결 끊김 - 완료 처리하면 등록된 콜백이 저장소에서 제거한다
+            log.debug("SSE 전송 실패 (memberId={}, emitterId={}): {}", memberId, emitterId, e.getMessage());
+            closed = true;
+            emitter.completeWithError(e);
+        }
+    }
+}
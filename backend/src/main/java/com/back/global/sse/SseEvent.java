@@ -0,0 +1,10 @@
+package com.back.global.sse;
+
+/**
+ * 직렬화가 끝난 SSE 이벤트. id 는 재연결 시 Last-Event-ID 로 돌아오는 값(Redis 스트림 id)이며 없을 수 있다.
+ */
+public record SseEvent(
+        String id,
+        String data
+) {
+}
@@ -0,0 +1,37 @@
+package com.back.global.sse;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주기적으로 모든 SSE 연결에 하트비트 코멘트를 보내 끊긴 연결을 타임아웃 전에 정리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SseHeartbeatSender {
+
+    private final EmitterRepository emitterRepository;
+
+    @Value("${custom.sse.heartbeat-seconds:30}")
+    private long heartbeatSeconds;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("sse-heartbeat").daemon().factory());
+        scheduler.scheduleAtFixedRate(emitterRepository::heartbeatAll, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+}
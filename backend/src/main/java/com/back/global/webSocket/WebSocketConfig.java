@@ -2,9 +2,17 @@ package com.back.global.webSocket;
 
 import com.back.domain.member.service.AuthTokenService;
 import com.back.global.security.SecurityUser;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -12,6 +20,8 @@ import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -20,6 +30,8 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Configuration
@@ -29,11 +41,66 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthInterceptor webSocketAuthInterceptor;
     private final AuthTokenService authTokenService;
+    private final MeterRegistry meterRegistry;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    // platform: 고정 크기 스레드 풀, virtual: 메시지마다 가상 스레드
+    @Value("${custom.websocket.executor:platform}")
+    private String executorType;
+
+    @Value("${custom.websocket.pool-size:16}")
+    private int poolSize;
+
+    @Value("${custom.websocket.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${custom.websocket.heartbeat-millis:10000}")
+    private long heartbeatMillis;
+
+    @Value("${custom.websocket.relay.enabled:false}")
+    private boolean relayEnabled;
+
+    @Value("${custom.websocket.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${custom.websocket.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${custom.websocket.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${custom.websocket.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(
+            @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler
+    ) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/sub");
+        if (relayEnabled) {
+            // 외부 브로커(STOMP)가 노드 간 전달을 맡는다
+            config.enableStompBrokerRelay("/sub")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setSystemHeartbeatSendInterval(heartbeatMillis)
+                    .setSystemHeartbeatReceiveInterval(heartbeatMillis);
+        } else {
+            config.enableSimpleBroker("/sub")
+                    .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis})
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
         config.setApplicationDestinationPrefixes("/pub");
+        // 여러 스레드로 처리해도 세션별 전송 순서는 유지
+        config.setPreservePublishOrder(true);
     }
 
     @Override
@@ -43,11 +110,54 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
 
+        registry.setPreserveReceiveOrder(true);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutor("outbound"));
+    }
+
+    /**
+     * 채널 실행기. 제출됐지만 아직 시작되지 않은 작업 수를 stomp.channel.queue.depth 로 노출한다.
+     */
+    private Executor channelExecutor(String channel) {
+        AtomicInteger pending = new AtomicInteger();
+        Gauge.builder("stomp.channel.queue.depth", pending, AtomicInteger::get)
+                .tag("channel", channel)
+                .register(meterRegistry);
+
+        TaskDecorator decorator = task -> {
+            pending.incrementAndGet();
+            return () -> {
+                pending.decrementAndGet();
+                task.run();
+            };
+        };
+
+        String threadNamePrefix = "stomp-" + channel + "-";
+        if ("virtual".equalsIgnoreCase(executorType)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(decorator);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setTaskDecorator(decorator);
+        return executor;
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
 
+        registration.executor(channelExecutor("inbound"));
+
         registration.interceptors(new ChannelInterceptor() {
 
             @Override
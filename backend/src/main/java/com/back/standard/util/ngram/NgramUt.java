@@ -0,0 +1,30 @@
+package com.back.standard.util.ngram;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+public class NgramUt {
+
+    public static final int GRAM_SIZE = 2;
+
+    /**
+     * 소문자로 정규화한 문자열의 2-gram 집합 (공백이 포함된 gram은 제외).
+     * V2__add_post_title_ngram.sql 의 백필 규칙과 동일하게 유지해야 한다.
+     */
+    public static Set<String> bigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+
+        int[] codePoints = text.toLowerCase(Locale.ROOT).codePoints().toArray();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            if (Character.isWhitespace(codePoints[i]) || Character.isWhitespace(codePoints[i + 1])) {
+                continue;
+            }
+            grams.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,8 @@
+package com.back.standard.util.page;
+
+public record CursorMeta(
+        int size,
+        boolean hasNext,
+        String nextCursor   // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+) {
+}
@@ -0,0 +1,9 @@
+package com.back.standard.util.page;
+
+import java.util.List;
+
+public record CursorPayload<T>(
+        List<T> content,
+        CursorMeta cursor
+) {
+}
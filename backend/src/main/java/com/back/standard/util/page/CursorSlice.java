@@ -0,0 +1,19 @@
+package com.back.standard.util.page;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * COUNT 없이 size + 1 건 조회로 다음 페이지 존재 여부만 판단한 결과
+ */
+public record CursorSlice<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorSlice<>(mapped, size, hasNext, nextCursor);
+    }
+}
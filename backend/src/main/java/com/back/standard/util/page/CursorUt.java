@@ -0,0 +1,44 @@
+package com.back.standard.util.page;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class CursorUt {
+
+    private static final String DELIMITER = "|";
+
+    public record Cursor(String sortValue, long id) {
+    }
+
+    public static <T> CursorPayload<T> of(CursorSlice<T> s) {
+        return new CursorPayload<>(s.content(), new CursorMeta(s.size(), s.hasNext(), s.nextCursor()));
+    }
+
+    /**
+     * (정렬 키, id) 쌍을 클라이언트가 해석할 필요 없는 불투명 문자열로 인코딩
+     */
+    public static String encode(Object sortValue, long id) {
+        String raw = (sortValue == null ? "" : sortValue.toString()) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int idx = raw.lastIndexOf(DELIMITER);
+        if (idx < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+
+        String sortValue = raw.substring(0, idx);
+        long id = Long.parseLong(raw.substring(idx + 1));
+        return new Cursor(sortValue.isEmpty() ? null : sortValue, id);
+    }
+}
@@ -0,0 +1,10 @@
+package com.back.standard.util.page;
+
+/**
+ * 페이지 응답의 totalElements 산출 방식
+ */
+public enum PageCountMode {
+    EXACT,      // 매 요청마다 COUNT 쿼리 실행
+    CACHED,     // 같은 필터의 COUNT 결과를 짧은 시간 재사용 (근사값일 수 있음)
+    NONE        // COUNT 생략, hasNext 만 제공 (totalElements/totalPages = -1)
+}
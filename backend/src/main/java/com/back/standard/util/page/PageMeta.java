@@ -13,6 +13,7 @@ public record PageMeta(
         boolean last,
         boolean hasNext,
         boolean hasPrevious,
+        PageCountMode countMode,
         @JsonInclude(JsonInclude.Include.NON_EMPTY)
         List<SortOrder> sort // 정렬 정보(옵션)
 ) {
@@ -1,19 +1,36 @@
 package com.back.standard.util.page;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class PageUt {
     public static <T> PagePayload<T> of(Page<T> p) {
-        List<SortOrder> sort = new ArrayList<>();
-        p.getSort().forEach(o -> sort.add(new SortOrder(o.getProperty(), o.getDirection().name())));
+        return of(p, PageCountMode.EXACT);
+    }
 
+    public static <T> PagePayload<T> of(Page<T> p, PageCountMode countMode) {
         PageMeta meta = new PageMeta(
                 p.getNumber(), p.getSize(), p.getTotalElements(), p.getTotalPages(),
-                p.isFirst(), p.isLast(), p.hasNext(), p.hasPrevious(), sort
+                p.isFirst(), p.isLast(), p.hasNext(), p.hasPrevious(), countMode, sortOf(p)
         );
         return new PagePayload<>(p.getContent(), meta);
     }
+
+    // COUNT 없이 조회한 결과: 전체 개수를 알 수 없으므로 -1
+    public static <T> PagePayload<T> ofSlice(Slice<T> s) {
+        PageMeta meta = new PageMeta(
+                s.getNumber(), s.getSize(), -1, -1,
+                s.isFirst(), s.isLast(), s.hasNext(), s.hasPrevious(), PageCountMode.NONE, sortOf(s)
+        );
+        return new PagePayload<>(s.getContent(), meta);
+    }
+
+    private static List<SortOrder> sortOf(Slice<?> s) {
+        List<SortOrder> sort = new ArrayList<>();
+        s.getSort().forEach(o -> sort.add(new SortOrder(o.getProperty(), o.getDirection().name())));
+        return sort;
+    }
 }
@@ -0,0 +1,19 @@
+-- 게시글 제목 검색용 2-gram 역색인 (MariaDB FULLTEXT 는 ngram 파서를 지원하지 않아 별도 테이블로 구성)
+CREATE TABLE `post_title_ngram` (
+                                    `id` bigint(20) NOT NULL AUTO_INCREMENT,
+                                    `post_id` bigint(20) NOT NULL,
+                                    `gram` varchar(2) NOT NULL,
+                                    PRIMARY KEY (`id`),
+                                    UNIQUE KEY `uk_post_title_ngram_gram_post` (`gram`, `post_id`),
+                                    KEY `idx_post_title_ngram_post` (`post_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 게시글 백필 (NgramUt.bigrams 와 같은 규칙: 소문자, 공백 포함 gram 제외)
+INSERT IGNORE INTO `post_title_ngram` (`post_id`, `gram`)
+SELECT p.`id`, LOWER(SUBSTRING(p.`title`, s.`n`, 2))
+FROM `post` p
+         JOIN (WITH RECURSIVE seq (n) AS (SELECT 1
+                                          UNION ALL
+                                          SELECT n + 1 FROM seq WHERE n < 255)
+               SELECT n FROM seq) s ON s.`n` < CHAR_LENGTH(p.`title`)
+WHERE SUBSTRING(p.`title`, s.`n`, 2) NOT REGEXP '[[:space:]]';
@@ -0,0 +1,2 @@
+-- 게시글별 예약 기간 겹침 검사 (예약 중복 검사, 이용 가능 기간 검색) 용 인덱스
+CREATE INDEX `idx_reservation_post_period` ON `reservation` (`post_id`, `reservation_start_at`, `reservation_end_at`);
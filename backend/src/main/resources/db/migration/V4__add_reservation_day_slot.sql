@@ -0,0 +1,31 @@
+-- 게시글별 하루 단위 예약 점유 슬롯 (유니크 제약으로 이중 예약 방지)
+CREATE TABLE `reservation_day_slot` (
+                                        `id` bigint(20) NOT NULL AUTO_INCREMENT,
+                                        `post_id` bigint(20) NOT NULL,
+                                        `slot_date` date NOT NULL,
+                                        `reservation_id` bigint(20) NOT NULL,
+                                        PRIMARY KEY (`id`),
+                                        UNIQUE KEY `uk_reservation_day_slot_post_day` (`post_id`, `slot_date`),
+                                        KEY `idx_reservation_day_slot_reservation` (`reservation_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 현재 기간을 점유 중인 예약 백필 (ReservationStatus.OVERLAP_EXCLUDED_STATUSES 제외)
+-- 날짜 범위는 ReservationDaySlot.firstDay/lastDay 와 같다: DATE(start) ~ DATE(end - 1us), 최소 DATE(start)
+-- 기존 데이터에 겹치는 예약이 있으면 먼저 들어간 예약만 슬롯을 가진다
+INSERT IGNORE INTO `reservation_day_slot` (`post_id`, `slot_date`, `reservation_id`)
+SELECT r.`post_id`, DATE(r.`reservation_start_at`) + INTERVAL s.`n` DAY, r.`id`
+FROM `reservation` r
+         JOIN (WITH RECURSIVE seq (n, max_n) AS (SELECT 0,
+                                                        (SELECT COALESCE(MAX(DATEDIFF(`reservation_end_at`, `reservation_start_at`)), 0)
+                                                         FROM `reservation`)
+                                                 UNION ALL
+                                                 SELECT n + 1, max_n FROM seq WHERE n < max_n)
+               SELECT n FROM seq) s
+              ON s.`n` = 0
+                  OR DATE(r.`reservation_start_at`) + INTERVAL s.`n` DAY
+                         <= DATE(r.`reservation_end_at` - INTERVAL 1 MICROSECOND)
+WHERE r.`post_id` IS NOT NULL
+  AND r.`reservation_start_at` IS NOT NULL
+  AND r.`reservation_end_at` IS NOT NULL
+  AND r.`status` NOT IN ('PENDING_APPROVAL', 'CANCELLED', 'REJECTED', 'REFUND_COMPLETED', 'CLAIM_COMPLETED')
+ORDER BY r.`id`;
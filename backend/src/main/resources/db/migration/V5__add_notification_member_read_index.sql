@@ -0,0 +1,2 @@
+-- 회원별 읽지 않은 알림 집계 (미읽음 카운터 재계산) 용 인덱스
+CREATE INDEX `idx_notification_member_read` ON `notification` (`member_id`, `is_read`);
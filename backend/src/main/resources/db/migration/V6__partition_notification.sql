@@ -0,0 +1,17 @@
+-- 알림을 created_at 기준 월별 RANGE 파티션으로 전환 (보관 기간이 지난 달은 파티션 DROP 으로 정리)
+-- 파티션 테이블은 외래 키를 가질 수 없고, 모든 유니크 키에 파티션 컬럼이 포함되어야 한다.
+ALTER TABLE `notification` DROP FOREIGN KEY `FK1xep8o2ge7if6diclyyx53v4q`;
+
+ALTER TABLE `notification`
+    MODIFY `created_at` datetime(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`id`, `created_at`);
+
+-- 이후 달의 파티션은 NotificationPartitionRepository 가 pmax 를 나눠 미리 만든다.
+ALTER TABLE `notification` PARTITION BY RANGE COLUMNS (`created_at`) (
+    PARTITION `p_before_202610` VALUES LESS THAN ('2026-10-01'),
+    PARTITION `p202610` VALUES LESS THAN ('2026-11-01'),
+    PARTITION `p202611` VALUES LESS THAN ('2026-12-01'),
+    PARTITION `p202612` VALUES LESS THAN ('2027-01-01'),
+    PARTITION `pmax` VALUES LESS THAN (MAXVALUE)
+);
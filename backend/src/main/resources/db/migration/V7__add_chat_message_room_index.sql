@@ -0,0 +1,2 @@
+-- 채팅방별 메시지 이력 커서 조회 (chat_room_id = ? AND id < ? ORDER BY id DESC) 용 인덱스
+CREATE INDEX `idx_chat_message_room_id` ON `chat_message` (`chat_room_id`, `id`);
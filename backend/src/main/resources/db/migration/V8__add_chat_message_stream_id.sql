@@ -0,0 +1,4 @@
+-- write-behind 로 저장된 메시지의 Redis Stream 레코드 id (재처리 중복 방지, 동기 저장 메시지는 NULL)
+ALTER TABLE `chat_message`
+    ADD COLUMN `stream_id` varchar(64) DEFAULT NULL,
+    ADD UNIQUE KEY `uk_chat_message_stream_id` (`stream_id`);
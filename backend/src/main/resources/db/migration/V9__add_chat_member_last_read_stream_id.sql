@@ -0,0 +1,3 @@
+-- 아직 저장되지 않은 write-behind 메시지까지 읽은 위치 (메시지가 저장될 때 last_read_message_id 로 옮기고 비운다)
+ALTER TABLE `chat_member`
+    ADD COLUMN `last_read_stream_id` varchar(64) DEFAULT NULL;
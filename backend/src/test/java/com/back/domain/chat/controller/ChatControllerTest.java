@@ -4,21 +4,35 @@ import com.back.config.TestConfig;
 import com.back.domain.chat.dto.CreateChatRoomReqBody;
 import com.back.domain.chat.entity.ChatMember;
 import com.back.domain.chat.repository.ChatMemberRepository;
+import com.back.domain.chat.repository.ChatMessageBatchRepository;
+import com.back.domain.chat.repository.ChatRoomQueryRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -42,6 +56,27 @@ class ChatControllerTest {
     @Autowired
     private ChatMemberRepository chatMemberRepository;
 
+    @Autowired
+    private ChatRoomQueryRepository chatRoomQueryRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ChatMessageBatchRepository chatMessageBatchRepository;
+
+    // 채팅방 목록은 Redis 에 캐시되고 DB 는 테스트마다 다시 채워지므로 Redis 도 비운다
+    @BeforeEach
+    void flushRedis() {
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
     @Test
     @WithUserDetails(value = "user1@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
     @DisplayName("채팅방 생성 성공")
@@ -248,6 +283,94 @@ class ChatControllerTest {
                 .andExpect(jsonPath("$.data.page.hasNext").value(false));
     }
 
+    @Test
+    @WithUserDetails(value = "user1@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("채팅방 목록 커서 조회 - 최신 방 순으로 이어서 조회")
+    void getMyChatRoomsByCursor_pagination() throws Exception {
+        MvcResult first = mvc.perform(get("/api/v1/chats/cursor")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].id").value(3))
+                .andExpect(jsonPath("$.data.content[1].id").value(2))
+                .andExpect(jsonPath("$.data.cursor.hasNext").value(true))
+                .andReturn();
+
+        String nextCursor = JsonPath.read(first.getResponse().getContentAsString(), "$.data.cursor.nextCursor");
+
+        mvc.perform(get("/api/v1/chats/cursor")
+                        .param("cursor", nextCursor)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].id").value(1))
+                .andExpect(jsonPath("$.data.cursor.hasNext").value(false));
+
+        // 캐시 목록의 커서를 DB 조회에 그대로 넘겨도 같은 위치에서 이어진다
+        assertThat(chatRoomQueryRepository.getMyChatRoomsByCursor(1L, null, nextCursor, 2).content())
+                .extracting("id")
+                .containsExactly(1L);
+    }
+
+    @Test
+    @WithUserDetails(value = "user1@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("채팅방 목록 커서 조회 - 마지막 메시지 시각이 같은 방은 id 역순으로 빠짐없이 조회")
+    void getMyChatRoomsByCursor_sameLastMessageTime() throws Exception {
+        LocalDateTime sameTime = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        jdbcTemplate.update("UPDATE chat_room SET last_message = '같은 시각', last_message_time = ?",
+                Timestamp.valueOf(sameTime));
+
+        String cursor = null;
+        for (long expectedId = 3; expectedId >= 1; expectedId--) {
+            var request = get("/api/v1/chats/cursor").param("size", "1");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+
+            MvcResult result = mvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content.length()").value(1))
+                    .andExpect(jsonPath("$.data.content[0].id").value(expectedId))
+                    .andExpect(jsonPath("$.data.cursor.hasNext").value(expectedId > 1))
+                    .andReturn();
+
+            cursor = JsonPath.read(result.getResponse().getContentAsString(), "$.data.cursor.nextCursor");
+        }
+
+        // 캐시 목록의 커서와 DB 조회의 커서가 같다
+        String dbCursor = chatRoomQueryRepository.getMyChatRoomsByCursor(1L, null, null, 1).nextCursor();
+        MvcResult firstPage = mvc.perform(get("/api/v1/chats/cursor").param("size", "1"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(dbCursor, JsonPath.read(firstPage.getResponse().getContentAsString(), "$.data.cursor.nextCursor"));
+    }
+
+    @Test
+    @WithUserDetails(value = "user1@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("채팅방 목록 커서 조회 - 검색어로 거른 뒤 이어서 조회")
+    void getMyChatRoomsByCursor_keyword() throws Exception {
+        // "대여" → 1번(캠핑 텐트 대여), 2번(노트북 대여합니다)
+        MvcResult first = mvc.perform(get("/api/v1/chats/cursor")
+                        .param("keyword", "대여")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].id").value(2))
+                .andExpect(jsonPath("$.data.cursor.hasNext").value(true))
+                .andReturn();
+
+        String nextCursor = JsonPath.read(first.getResponse().getContentAsString(), "$.data.cursor.nextCursor");
+
+        mvc.perform(get("/api/v1/chats/cursor")
+                        .param("keyword", "대여")
+                        .param("cursor", nextCursor)
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].id").value(1))
+                .andExpect(jsonPath("$.data.cursor.hasNext").value(false));
+    }
+
     @Test
     @WithUserDetails(value = "user1@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
     @DisplayName("채팅방 상세 정보 조회 성공")
@@ -335,6 +458,60 @@ class ChatControllerTest {
                 .andExpect(jsonPath("$.data.content[2].content").value("메시지 1"));
     }
 
+    @Test
+    @WithUserDetails(value = "user1@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("채팅방 내 메시지 커서 조회 성공")
+    void getChatRoomMessagesBefore_success() throws Exception {
+        // given
+        Long chatRoomId = 1L; // user1 <-> user2, 메시지 3개 존재
+
+        // when
+        MvcResult first = mvc.perform(get("/api/v1/chats/{chatRoomId}/messages/cursor", chatRoomId)
+                        .param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].content").value("메시지 3"))
+                .andExpect(jsonPath("$.data.cursor.hasNext").value(true))
+                .andReturn();
+
+        String nextCursor = JsonPath.read(first.getResponse().getContentAsString(), "$.data.cursor.nextCursor");
+
+        // then
+        mvc.perform(get("/api/v1/chats/{chatRoomId}/messages/cursor", chatRoomId)
+                        .param("beforeId", nextCursor)
+                        .param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].content").value("메시지 1"))
+                .andExpect(jsonPath("$.data.cursor.hasNext").value(false));
+    }
+
+    @Test
+    @WithUserDetails(value = "user1@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("채팅방 내 메시지 커서 조회 - 범위를 벗어난 size 는 보정")
+    void getChatRoomMessagesBefore_clampsSize() throws Exception {
+        Long chatRoomId = 1L; // user1 <-> user2, 메시지 3개 존재
+
+        mvc.perform(get("/api/v1/chats/{chatRoomId}/messages/cursor", chatRoomId)
+                        .param("size", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.cursor.hasNext").value(true));
+
+        mvc.perform(get("/api/v1/chats/{chatRoomId}/messages/cursor", chatRoomId)
+                        .param("size", "-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1));
+
+        mvc.perform(get("/api/v1/chats/{chatRoomId}/messages/cursor", chatRoomId)
+                        .param("size", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(3))
+                .andExpect(jsonPath("$.data.cursor.hasNext").value(false));
+    }
+
     @Test
     @WithUserDetails(value = "user1@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
     @DisplayName("읽음 처리 성공 - lastMessageId 업데이트")
@@ -358,4 +535,55 @@ class ChatControllerTest {
         ChatMember chatMember = chatMemberRepository.findByChatRoomIdAndMemberId(chatRoomId, myId).orElseThrow();
         assertEquals(lastMessageId, chatMember.getLastReadMessageId());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithUserDetails(value = "user1@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("읽음 처리 성공 - 저장된 write-behind 메시지는 streamId 로 id 를 찾는다")
+    void markAsRead_byStoredStreamId() throws Exception {
+        Long chatRoomId = 1L;
+        jdbcTemplate.update("UPDATE chat_message SET stream_id = ? WHERE id = ?", "1700000000000-0", 2L);
+
+        mvc.perform(patch("/api/v1/chats/{chatRoomId}/read", chatRoomId)
+                        .param("lastStreamId", "1700000000000-0"))
+                .andExpect(status().isOk());
+
+        ChatMember chatMember = chatMemberRepository.findByChatRoomIdAndMemberId(chatRoomId, 1L).orElseThrow();
+        assertEquals(2L, chatMember.getLastReadMessageId());
+        assertThat(chatMember.getLastReadStreamId()).isNull();
+    }
+
+    @Test
+    @WithUserDetails(value = "user1@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("읽음 처리 성공 - 저장 전 write-behind 메시지는 저장될 때 읽음 위치가 옮겨진다")
+    void markAsRead_byPendingStreamId() throws Exception {
+        Long chatRoomId = 1L;
+        String streamId = "9999999999999-0";
+
+        mvc.perform(patch("/api/v1/chats/{chatRoomId}/read", chatRoomId)
+                        .param("lastStreamId", streamId))
+                .andExpect(status().isOk());
+
+        ChatMember pending = chatMemberRepository.findByChatRoomIdAndMemberId(chatRoomId, 1L).orElseThrow();
+        assertEquals(3L, pending.getLastReadMessageId()); // 저장된 마지막 메시지까지
+        assertEquals(streamId, pending.getLastReadStreamId());
+
+        // write-behind 컨슈머가 메시지를 저장하는 트랜잭션
+        chatMessageBatchRepository.insertAll(List.of(
+                new ChatMessageBatchRepository.Row(streamId, chatRoomId, 1L, "메시지 4", LocalDateTime.now())));
+        chatMessageBatchRepository.resolvePendingReads(List.of(chatRoomId));
+
+        Long storedId = jdbcTemplate.queryForObject("SELECT id FROM chat_message WHERE stream_id = ?", Long.class, streamId);
+        ChatMember resolved = chatMemberRepository.findByChatRoomIdAndMemberId(chatRoomId, 1L).orElseThrow();
+        assertEquals(storedId, resolved.getLastReadMessageId());
+        assertThat(resolved.getLastReadStreamId()).isNull();
+    }
+
+    @Test
+    @WithUserDetails(value = "user1@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("읽음 처리 실패 - 잘못된 streamId")
+    void markAsRead_invalidStreamId() throws Exception {
+        mvc.perform(patch("/api/v1/chats/{chatRoomId}/read", 1L)
+                        .param("lastStreamId", "not-a-stream-id"))
+                .andExpect(status().isBadRequest());
+    }
+}
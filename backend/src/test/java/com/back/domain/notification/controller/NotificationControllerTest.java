@@ -1,14 +1,19 @@
 package com.back.domain.notification.controller;
 
 import com.back.config.TestConfig;
+import com.back.domain.notification.common.NotificationType;
 import com.back.domain.notification.entity.Notification;
 import com.back.domain.notification.repository.NotificationRepository;
+import com.back.domain.notification.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
@@ -44,6 +49,21 @@ class NotificationControllerTest {
     @Autowired
     NotificationRepository notificationRepository;
 
+    @Autowired
+    NotificationService notificationService;
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    // 미읽음 수는 Redis 에 캐시되므로 테스트마다 비운다
+    @BeforeEach
+    void flushRedis() {
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
     @Test
     @DisplayName("SSE 구독 연결 - 상태 코드 및 ContentType 확인")
     @WithUserDetails(value = "user1@example.com")
@@ -74,7 +94,9 @@ class NotificationControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.msg").value("읽지 않은 알림 존재 여부"))
-                .andExpect(jsonPath("$.data.hasUnread").isBoolean());
+                .andExpect(jsonPath("$.data.hasUnread").isBoolean())
+                .andExpect(jsonPath("$.data.unreadCount").isNumber())
+                .andExpect(jsonPath("$.data.unreadCountByGroup.RESERVATION").isNumber());
     }
 
     @Test
@@ -107,4 +129,31 @@ class NotificationControllerTest {
         n2 = notificationRepository.findById(2L).orElseThrow();
         assertThat(n2.getIsRead()).isTrue();
     }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수 - 저장 시 증가, 읽음 처리 시 감소")
+    @WithUserDetails(value = "user1@example.com")
+    void unreadCount_shouldFollowSaveAndRead() throws Exception {
+        mockMvc.perform(get("/api/v1/notifications/unread"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.unreadCount").value(5))
+                .andExpect(jsonPath("$.data.unreadCountByGroup.RESERVATION").value(2))
+                .andExpect(jsonPath("$.data.unreadCountByGroup.REVIEW").value(3));
+
+        notificationService.saveAndSendNotification(1L, NotificationType.REVIEW_CREATED, 1L);
+
+        mockMvc.perform(get("/api/v1/notifications/unread"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.unreadCount").value(6))
+                .andExpect(jsonPath("$.data.unreadCountByGroup.REVIEW").value(4));
+
+        mockMvc.perform(post("/api/v1/notifications/2"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/notifications/unread"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasUnread").value(true))
+                .andExpect(jsonPath("$.data.unreadCount").value(5))
+                .andExpect(jsonPath("$.data.unreadCountByGroup.RESERVATION").value(1));
+    }
 }
@@ -0,0 +1,94 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.common.NotificationData;
+import com.back.domain.notification.common.NotificationType;
+import com.back.domain.notification.dto.NotificationResBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationCoalescerTest {
+
+    // 테스트 중에는 주기 flush 가 돌지 않도록 창을 길게 두고 stop() 으로 flush 한다
+    private final NotificationCoalescer coalescer = new NotificationCoalescer(60_000);
+
+    private final List<Sent> sent = new ArrayList<>();
+
+    private record Sent(Long memberId, List<NotificationResBody<? extends NotificationData>> bodies) {
+        List<Long> ids() {
+            return bodies.stream().map(NotificationResBody::id).toList();
+        }
+    }
+
+    @Test
+    @DisplayName("키의 첫 알림은 창을 기다리지 않고 바로 전송된다")
+    void firstPush_shouldBeSentImmediately() {
+        coalescer.start((memberId, bodies) -> sent.add(new Sent(memberId, bodies)));
+
+        coalescer.submitAfterCommit(List.of(push(1L, 10L, 1L, NotificationType.RESERVATION_PENDING_APPROVAL)));
+
+        assertThat(sent).extracting(Sent::memberId).containsExactly(1L);
+        assertThat(sent.get(0).ids()).containsExactly(1L);
+
+        coalescer.stop();
+        assertThat(sent).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("창 안에 같은 회원·GroupType·대상의 알림이 다시 오면 창이 끝날 때 마지막 알림 하나만 전송된다")
+    void repeatedKey_shouldBeReplacedByLatest() {
+        coalescer.start((memberId, bodies) -> sent.add(new Sent(memberId, bodies)));
+
+        coalescer.submitAfterCommit(List.of(
+                push(1L, 10L, 1L, NotificationType.RESERVATION_PENDING_APPROVAL),
+                push(1L, 20L, 2L, NotificationType.RESERVATION_PENDING_APPROVAL),
+                push(1L, 10L, 3L, NotificationType.RESERVATION_PENDING_PAYMENT)
+        ));
+        coalescer.submitAfterCommit(List.of(push(1L, 10L, 4L, NotificationType.RESERVATION_PENDING_PICKUP)));
+
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0).ids()).containsExactly(1L, 2L);
+
+        coalescer.stop();
+
+        assertThat(sent).hasSize(2);
+        assertThat(sent.get(1).memberId()).isEqualTo(1L);
+        assertThat(sent.get(1).ids()).containsExactly(4L);
+        assertThat(sent.get(1).bodies().get(0).notificationType()).isEqualTo(NotificationType.RESERVATION_PENDING_PICKUP);
+    }
+
+    @Test
+    @DisplayName("회원이나 GroupType 이 다르면 합치지 않고 회원별로 묶어 전송한다")
+    void differentKey_shouldBeSentPerMember() {
+        coalescer.start((memberId, bodies) -> sent.add(new Sent(memberId, bodies)));
+
+        coalescer.submitAfterCommit(List.of(
+                push(1L, 10L, 1L, NotificationType.RESERVATION_PENDING_APPROVAL),
+                push(2L, 10L, 2L, NotificationType.RESERVATION_PENDING_APPROVAL),
+                push(1L, 10L, 3L, NotificationType.REVIEW_CREATED)
+        ));
+        coalescer.stop();
+
+        assertThat(sent).extracting(Sent::memberId).containsExactly(1L, 2L);
+        assertThat(sent.get(0).ids()).containsExactly(1L, 3L);
+        assertThat(sent.get(1).ids()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("window 가 0 이면 비활성")
+    void zeroWindow_shouldBeDisabled() {
+        assertThat(new NotificationCoalescer(0).isEnabled()).isFalse();
+        assertThat(coalescer.isEnabled()).isTrue();
+    }
+
+    private static NotificationCoalescer.Push push(Long memberId, Long targetId, Long notificationId,
+                                                   NotificationType type) {
+        return new NotificationCoalescer.Push(memberId, targetId,
+                new NotificationResBody<>(notificationId, type, LocalDateTime.now(), false, null));
+    }
+}
@@ -19,8 +19,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.back.config.TestConfig;
+import com.jayway.jsonpath.JsonPath;
 import com.back.global.s3.S3Uploader;
 
 @ActiveProfiles("test")
@@ -32,6 +34,7 @@ import com.back.global.s3.S3Uploader;
 	"/sql/categories.sql",
 	"/sql/regions.sql",
 	"/sql/posts.sql",
+	"/sql/post_title_ngrams.sql",
 	"/sql/post_images.sql",
 	"/sql/post_regions.sql",
 	"/sql/post_options.sql"
@@ -103,6 +106,70 @@ class PostControllerTest {
 			.andExpect(jsonPath("$.data.content.length()").value(6));
 	}
 
+	@Test
+	@DisplayName("게시글 목록 조회 테스트 (COUNT 생략 모드)")
+	@WithUserDetails("user1@example.com")
+	void getPostList_withoutCount() throws Exception {
+
+		mockMvc.perform(get("/api/v1/posts")
+				.param("page", "0")
+				.param("size", "5")
+				.param("countMode", "NONE"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.content.length()").value(5))
+			.andExpect(jsonPath("$.data.page.hasNext").value(true))
+			.andExpect(jsonPath("$.data.page.totalElements").value(-1))
+			.andExpect(jsonPath("$.data.page.countMode").value("NONE"));
+	}
+
+	@Test
+	@DisplayName("상위 지역으로 게시글 목록 조회 시 하위 지역 게시글 포함 테스트")
+	@WithUserDetails("user1@example.com")
+	void getPostList_parentRegion() throws Exception {
+
+		mockMvc.perform(get("/api/v1/posts")
+				.param("regionIds", "1"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.content.length()").value(3))
+			.andExpect(jsonPath("$.data.page.totalElements").value(3));
+	}
+
+	@Test
+	@DisplayName("게시글 제목 키워드 검색 테스트 (관련도 정렬)")
+	@WithUserDetails("user1@example.com")
+	void getPostList_keywordByRelevance() throws Exception {
+
+		mockMvc.perform(get("/api/v1/posts")
+				.param("keyword", "빌려요")
+				.param("sort", "relevance"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.content.length()").value(3))
+			.andExpect(jsonPath("$.data.page.totalElements").value(3));
+	}
+
+	@Test
+	@DisplayName("게시글 목록 커서 조회 테스트")
+	@WithUserDetails("user1@example.com")
+	void getPostListByCursor_success() throws Exception {
+
+		MvcResult first = mockMvc.perform(get("/api/v1/posts/cursor")
+				.param("size", "4"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.content.length()").value(4))
+			.andExpect(jsonPath("$.data.cursor.hasNext").value(true))
+			.andExpect(jsonPath("$.data.cursor.nextCursor").isNotEmpty())
+			.andReturn();
+
+		String nextCursor = JsonPath.read(first.getResponse().getContentAsString(), "$.data.cursor.nextCursor");
+
+		mockMvc.perform(get("/api/v1/posts/cursor")
+				.param("size", "4")
+				.param("cursor", nextCursor))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.content.length()").value(2))
+			.andExpect(jsonPath("$.data.cursor.hasNext").value(false));
+	}
+
 	@Test
 	@DisplayName("내 게시글 조회 테스트")
 	@WithUserDetails("user1@example.com")
@@ -14,8 +14,10 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
@@ -33,6 +35,7 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -62,6 +65,12 @@ class ReservationControllerTest{
     @Autowired
     private ReservationRepository reservationRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
     @Test
     @DisplayName("예약 등록 테스트")
     @WithUserDetails("user1@example.com")
@@ -333,4 +342,100 @@ class ReservationControllerTest{
                 .as("동일 기간 중 승인된 예약은 정확히 하나여야 한다")
                 .isEqualTo(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithUserDetails("user2@example.com") // 8, 9번 예약이 걸린 6번 게시글의 호스트
+    @DisplayName("예약 승낙 시 일자 슬롯 점유, 취소 시 해제 테스트")
+    void approvalClaimsAndCancelReleasesDaySlotsTest() throws Exception {
+        String approve = objectMapper.writeValueAsString(new UpdateReservationStatusReqBody(
+                ReservationStatus.PENDING_PAYMENT,
+                null, null, null, null, null, null, null
+        ));
+        String cancel = objectMapper.writeValueAsString(new UpdateReservationStatusReqBody(
+                ReservationStatus.CANCELLED,
+                "취소 사유", null, null, null, null, null, null
+        ));
+
+        // 8번 승낙 → 기간이 걸친 날짜(이틀) 점유
+        mockMvc.perform(patch("/api/v1/reservations/{id}/status", 8L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(approve))
+                .andExpect(status().isOk());
+        assertThat(countDaySlots(8L)).isEqualTo(2);
+
+        // 같은 기간의 9번 승낙 → 충돌
+        mockMvc.perform(patch("/api/v1/reservations/{id}/status", 9L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(approve))
+                .andExpect(status().isConflict());
+        assertThat(countDaySlots(9L)).isZero();
+
+        // 8번 게스트가 취소 → 슬롯 해제
+        mockMvc.perform(patch("/api/v1/reservations/{id}/status", 8L)
+                        .with(user(userDetailsService.loadUserByUsername("user1@example.com")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cancel))
+                .andExpect(status().isOk());
+        assertThat(countDaySlots(8L)).isZero();
+
+        // 해제된 기간으로 9번 승낙 가능
+        mockMvc.perform(patch("/api/v1/reservations/{id}/status", 9L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(approve))
+                .andExpect(status().isOk());
+        assertThat(countDaySlots(9L)).isEqualTo(2);
+    }
+
+    @Test
+    @WithUserDetails("user1@example.com")
+    @DisplayName("승낙된 예약과 같은 날 시작하는 예약은 중복, 자정에 끝나는 예약은 허용 테스트")
+    void sameDayHandoverIsOverlapTest() throws Exception {
+        String approve = objectMapper.writeValueAsString(new UpdateReservationStatusReqBody(
+                ReservationStatus.PENDING_PAYMENT,
+                null, null, null, null, null, null, null
+        ));
+        mockMvc.perform(patch("/api/v1/reservations/{id}/status", 8L)
+                        .with(user(userDetailsService.loadUserByUsername("user2@example.com")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(approve))
+                .andExpect(status().isOk());
+
+        var approved = reservationRepository.findById(8L).orElseThrow();
+
+        // 반납일 오후에 수령하는 예약 → 같은 날짜를 점유하므로 중복
+        LocalDateTime handoverStartAt = approved.getReservationEndAt().toLocalDate().atTime(23, 0);
+        mockMvc.perform(post("/api/v1/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createReqBody(6L, handoverStartAt, handoverStartAt.plusDays(1))))
+                .andExpect(status().isBadRequest());
+
+        // 시작일 자정에 끝나는 예약 → 그 날짜는 점유하지 않으므로 허용
+        LocalDateTime midnight = approved.getReservationStartAt().toLocalDate().atStartOfDay();
+        mockMvc.perform(post("/api/v1/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createReqBody(6L, midnight.minusDays(1), midnight)))
+                .andExpect(status().isCreated());
+    }
+
+    private int countDaySlots(Long reservationId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservation_day_slot WHERE reservation_id = ?", Integer.class, reservationId);
+        return count != null ? count : 0;
+    }
+
+    private String createReqBody(Long postId, LocalDateTime startAt, LocalDateTime endAt) {
+        return """
+            {
+              "receiveMethod": "DELIVERY",
+              "receiveAddress1": "서울특별시 강남구",
+              "receiveAddress2": "역삼동",
+              "returnMethod": "DELIVERY",
+              "reservationStartAt": "%s",
+              "reservationEndAt": "%s",
+              "postId": %d,
+              "optionIds": null
+            }
+            """.formatted(startAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                endAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), postId);
+    }
+}
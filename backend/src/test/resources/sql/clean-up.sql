@@ -10,9 +10,11 @@ TRUNCATE TABLE post_favorite;
 TRUNCATE TABLE post_option;
 TRUNCATE TABLE post_image;
 TRUNCATE TABLE post_region;
+TRUNCATE TABLE post_title_ngram;
 
 TRUNCATE TABLE region;
 TRUNCATE TABLE reservation;
+TRUNCATE TABLE reservation_day_slot;
 TRUNCATE TABLE review;
 
 TRUNCATE TABLE chat_room;
@@ -0,0 +1,10 @@
+TRUNCATE TABLE post_title_ngram;
+
+INSERT IGNORE INTO post_title_ngram (post_id, gram)
+SELECT p.id, LOWER(SUBSTRING(p.title, s.n, 2))
+FROM post p
+         JOIN (WITH RECURSIVE seq (n) AS (SELECT 1
+                                          UNION ALL
+                                          SELECT n + 1 FROM seq WHERE n < 255)
+               SELECT n FROM seq) s ON s.n < CHAR_LENGTH(p.title)
+WHERE SUBSTRING(p.title, s.n, 2) NOT REGEXP '[[:space:]]';